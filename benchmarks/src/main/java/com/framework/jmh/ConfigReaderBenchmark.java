@@ -0,0 +1,54 @@
+package com.framework.jmh;
+
+import com.framework.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ConfigReader lookups as done by page objects and the driver factory.
+// Reads resources/config.properties relative to the working directory: run from the repository root.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog4j2.configurationFile=log4j2-benchmark.xml", "-Dlog.level=info"})
+@State(Scope.Thread)
+public class ConfigReaderBenchmark {
+    private String presentKey = "baseUrl";
+    private String missingKey = "benchmark.missing.key";
+
+    @Benchmark
+    public String getPropertyPresent() {
+        return ConfigReader.getProperty(presentKey);
+    }
+
+    @Benchmark
+    public String getPropertyMissingWithDefault() {
+        return ConfigReader.getProperty(missingKey, "fallback");
+    }
+
+    @Benchmark
+    public int getInt() {
+        return ConfigReader.getInt("pool.size", 1);
+    }
+
+    @Benchmark
+    public Duration getDuration() {
+        return ConfigReader.getDuration("wait.timeout", Duration.ofSeconds(20));
+    }
+
+    @Benchmark
+    public List<String> getList() {
+        return ConfigReader.getList("window.size");
+    }
+}
@@ -0,0 +1,57 @@
+package com.framework.jmh;
+
+import com.framework.utils.LoggerUtil;
+import com.framework.utils.TestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of LoggerUtil calls at the levels used on every page object step: enabled INFO steps,
+// and DEBUG messages that are filtered out, built eagerly versus through a Supplier.
+// Allure steps are disabled (allure.stepLevel=error) since no Allure test is running in JMH.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog4j2.configurationFile=log4j2-benchmark.xml", "-Dlog.level=info", "-Dallure.stepLevel=error"})
+@State(Scope.Thread)
+public class LoggerUtilBenchmark {
+    // Non-final so the JIT cannot fold the concatenations into constants
+    private String description = "Search button";
+
+    @Benchmark
+    public void stepConstantMessage() {
+        LoggerUtil.step("Waiting for Trains page to be ready");
+    }
+
+    @Benchmark
+    public void stepConcatenatedMessage() {
+        LoggerUtil.step("Click on: " + description);
+    }
+
+    @Benchmark
+    public void debugDisabledEager() {
+        LoggerUtil.debug("Waiting for visibility of element: " + description);
+    }
+
+    @Benchmark
+    public void debugDisabledSupplier() {
+        LoggerUtil.debug(() -> "Waiting for visibility of element: " + description);
+    }
+
+    // Steps are collected in the thread's TestContext; start every iteration with an empty one
+    @TearDown(Level.Iteration)
+    public void clearTestContext() {
+        TestContext.end();
+    }
+}
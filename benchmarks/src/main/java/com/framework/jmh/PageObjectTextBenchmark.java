@@ -0,0 +1,84 @@
+package com.framework.jmh;
+
+import com.framework.pages.AddTravellerInformationDialog;
+import com.framework.pages.TrainListing;
+import com.framework.pages.TrainsPage;
+import com.framework.utils.TestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// String work done by the page objects on every step: locator construction, listing text parsing,
+// price parsing and traveller formatting. The locator benchmarks repeat the expressions of
+// DashboardPage.navigateTo and TrainsPage.applyDepartureFilter, which build them inline.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog4j2.configurationFile=log4j2-benchmark.xml", "-Dlog.level=info", "-Dallure.stepLevel=error"})
+@State(Scope.Thread)
+public class PageObjectTextBenchmark {
+    private static final String NAVIGATION_BAR_XPATH = "//nav";
+
+    private String menuItem = "Trains";
+    private String from = "Vadodara";
+    private String filter = "6pm - 12am";
+    private String trainName = "Vadodara - Surat Express (12345)";
+    private String dateTimeInfo = "21:05, 5 Sep\nVadodara Jn (BRC)\n\n2h 10m\nView Route\n23:15, 5 Sep\nSurat (ST)";
+    private String priceDetails = "₹ 1,235";
+    private TrainListing listing;
+
+    @Setup
+    public void setUp() {
+        listing = TrainListing.parse(trainName, dateTimeInfo, List.of());
+    }
+
+    @Benchmark
+    public By navigationMenuXpath() {
+        return By.xpath(NAVIGATION_BAR_XPATH + "//ul//li[@data-cy=\"menu_" + menuItem + "\"]");
+    }
+
+    @Benchmark
+    public By departureFilterXpath() {
+        return By.xpath("//div[contains(@class, \"FilterCard_filterCardSection\") and contains(., \"Departure from " + from + "\")]//li[@data-testid=\"filter-option-" + filter + "\"]");
+    }
+
+    @Benchmark
+    public TrainListing parseListing() {
+        return TrainListing.parse(trainName, dateTimeInfo, List.of());
+    }
+
+    // Includes the LoggerUtil.step call that reports the formatted line
+    @Benchmark
+    public void formatTrainInfo() {
+        TrainsPage.formatTrainInfo(listing);
+    }
+
+    @Benchmark
+    public int parsePrice() {
+        return TrainListing.parsePrice(priceDetails);
+    }
+
+    @Benchmark
+    public String formatPersonInfo() {
+        return AddTravellerInformationDialog.formatPersonInfo("Walter White", "52", "Male");
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTestContext() {
+        TestContext.end();
+    }
+}
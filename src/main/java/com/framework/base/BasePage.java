@@ -1,30 +1,68 @@
 package com.framework.base;
 
+import com.framework.utils.ActionMetrics;
+import com.framework.utils.ConfigReader;
 import com.framework.utils.LoggerUtil;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.SkipException;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public abstract class BasePage {
-    private static final int DEFAULT_TIMEOUT = 20;
+    // Nominal timeouts; WaitBudget narrows each wait to the locator's learned p99 and the test's remaining budget
+    private static final Duration DEFAULT_TIMEOUT = ConfigReader.getDuration("wait.timeout", Duration.ofSeconds(20));
+    private static final Duration VISIBLE_TIMEOUT = ConfigReader.getDuration("wait.visibleTimeout", Duration.ofSeconds(10));
+    private static final Duration URL_TIMEOUT = ConfigReader.getDuration("wait.urlTimeout", Duration.ofSeconds(5));
+    private static final Duration DISAPPEAR_TIMEOUT = ConfigReader.getDuration("wait.disappearTimeout", Duration.ofSeconds(5));
+    private static final Duration CALENDAR_TIMEOUT = ConfigReader.getDuration("wait.calendarTimeout", Duration.ofSeconds(5));
+    // Caption of the custom date picker, e.g. "September 2025"
+    private static final By CALENDAR_CAPTION = By.xpath("//div[@class=\"DayPicker-Caption\"]/div");
+    private static final DateTimeFormatter CAPTION_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+    // Helpers of the bulk extraction script; the extractor body is spliced in on the Java side, since
+    // compiling it in the page (new Function) is blocked by a Content-Security-Policy without unsafe-eval
+    private static final String BULK_EXTRACT_HELPERS = """
+            var all = function (node, xpath) {
+              var result = document.evaluate(xpath, node, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+              var nodes = [];
+              for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }
+              return nodes;
+            };
+            var text = function (node, xpath) {
+              var match = document.evaluate(xpath, node, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+              return match ? match.innerText.trim() : '';
+            };
+            """;
+    private static final Map<String, String> bulkExtractScripts = new ConcurrentHashMap<>();
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected WaitEngine waitEngine;
+    protected final ElementCache elementCache = new ElementCache();
+    // Field initializers run before the subclass constructor body, so this marks the start of page construction
+    private final long constructionStartNanos = System.nanoTime();
+    private boolean constructionRecorded = false;
 
-    // Constructor: Initializes WebDriver, WebDriverWait, and PageFactory elements
+    // Constructor: Initializes WebDriver, the shared WaitEngine of the driver, and
+    // PageFactory elements for page classes that declare any (see PageWiring)
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-        PageFactory.initElements(driver, this);
+        this.waitEngine = PageWiring.waitEngine(driver);
+        PageWiring.initElements(driver, this);
     }
 
     // Returns the current page title
@@ -34,27 +72,129 @@ public abstract class BasePage {
         return title;
     }
 
-    // Waits for visibility and returns a single WebElement by locator
+    // Waits for visibility and returns a single WebElement by locator, served from the element cache when possible
     protected WebElement getElement(By locator, String description) {
-        LoggerUtil.debug("Waiting for visibility of element: " + description);
+        return getElement(locator, description, false);
+    }
+
+    // verifyCached: a cache hit is only served while still displayed (reads, which would not fail on a hidden handle)
+    private WebElement getElement(By locator, String description, boolean verifyCached) {
+        WebElement cached = verifyCached ? elementCache.getDisplayed(locator) : elementCache.get(locator);
+        if (cached != null) {
+            LoggerUtil.step("Element found: " + description);
+            return cached;
+        }
+        LoggerUtil.debug(() -> "Waiting for visibility of element: " + description);
+        long start = System.nanoTime();
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = waitFor(ExpectedConditions.visibilityOfElementLocated(locator), locator.toString(), DEFAULT_TIMEOUT, "Visibility of " + description);
+            elementCache.put(locator, element);
             LoggerUtil.step("Element found: " + description);
             return element;
         } catch (TimeoutException e) {
             LoggerUtil.error("Timeout: Element not found - " + description);
             throw e;
+        } finally {
+            ActionMetrics.record(getClass(), "wait", description, start);
         }
     }
 
+    // Waits for visibility of a child inside a (cached) widget root; child locators must be relative (".//...")
+    protected WebElement getElement(By root, By child, String description) {
+        return getElement(root, child, description, false);
+    }
+
+    private WebElement getElement(By root, By child, String description, boolean verifyCached) {
+        ElementCache.ScopedKey key = new ElementCache.ScopedKey(root, child);
+        WebElement cached = verifyCached ? elementCache.getDisplayed(key) : elementCache.get(key);
+        if (cached != null) {
+            LoggerUtil.step("Element found: " + description);
+            return cached;
+        }
+        WebElement rootElement = getElement(root, "Widget root of " + description);
+        LoggerUtil.debug(() -> "Waiting for visibility of element: " + description);
+        long start = System.nanoTime();
+        try {
+            WebElement element = waitFor(d -> {
+                WebElement candidate = rootElement.findElement(child);
+                return candidate.isDisplayed() ? candidate : null;
+            }, root + " >> " + child, DEFAULT_TIMEOUT, "Visibility of " + description);
+            elementCache.put(key, element);
+            LoggerUtil.step("Element found: " + description);
+            return element;
+        } catch (TimeoutException e) {
+            LoggerUtil.error("Timeout: Element not found - " + description);
+            throw e;
+        } finally {
+            ActionMetrics.record(getClass(), "wait", description, start);
+        }
+    }
+
+    // Waits for the condition within the timeout granted by WaitBudget; with a locator key, the time the
+    // wait took (the nominal timeout if it timed out) is learned for that locator's adaptive timeout
+    protected <T> T waitFor(ExpectedCondition<T> condition, String locatorKey, Duration nominalTimeout, String description) {
+        return waitFor(condition, locatorKey, nominalTimeout, description, false);
+    }
+
+    // required: a timeout counts as a site failure for SiteCircuitBreaker (readiness gates only)
+    private <T> T waitFor(ExpectedCondition<T> condition, String locatorKey, Duration nominalTimeout, String description, boolean required) {
+        Duration timeout = WaitBudget.timeoutFor(locatorKey, nominalTimeout, description);
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = waitEngine.until(condition, timeout, description, required);
+        } catch (TimeoutException e) {
+            if (locatorKey != null) {
+                WaitBudget.recordTimeout(locatorKey, nominalTimeout);
+            }
+            throw e;
+        }
+        if (locatorKey != null) {
+            WaitBudget.recordSuccess(locatorKey, start);
+        }
+        return result;
+    }
+
+    // Runs the action on the resolved element; on a stale or hidden handle the cache entry is dropped and the element re-resolved once
+    private <T> T withElement(By root, By locator, String description, Function<WebElement, T> action) {
+        return withElement(root, locator, description, false, action);
+    }
+
+    // Reads (text, attributes) pass read=true: they succeed on a hidden handle, so cache hits are checked for visibility first
+    private <T> T withElement(By root, By locator, String description, boolean read, Function<WebElement, T> action) {
+        try {
+            return action.apply(root == null ? getElement(locator, description, read) : getElement(root, locator, description, read));
+        } catch (StaleElementReferenceException | ElementNotInteractableException e) {
+            // Cached handles are not checked on lookup; a detached or hidden one is re-resolved here
+            LoggerUtil.debug("Stale or hidden element, re-resolving: " + description);
+            if (root == null) {
+                elementCache.invalidate(locator);
+            } else {
+                elementCache.invalidate(root);
+                elementCache.invalidate(new ElementCache.ScopedKey(root, locator));
+            }
+            return action.apply(root == null ? getElement(locator, description, read) : getElement(root, locator, description, read));
+        }
+    }
+
+    // Drops all cached element handles of this page, e.g. after an action that re-renders it
+    protected void invalidateElementCache() {
+        elementCache.invalidateAll();
+    }
+
+    // Element cache hits/misses of this page
+    public String getElementCacheStats() {
+        return "hits=" + elementCache.getHits() + ", misses=" + elementCache.getMisses();
+    }
+
     // Returns a list of WebElements matching the locator
     public List<WebElement> getElements(By locator) {
         try {
             List<WebElement> elements = driver.findElements(locator);
             if (elements.isEmpty()) {
-                LoggerUtil.debug("No elements found for locator: " + locator.toString());
+                LoggerUtil.debug(() -> "No elements found for locator: " + locator);
             } else {
-                LoggerUtil.debug("Found " + elements.size() + " elements for locator: " + locator.toString());
+                LoggerUtil.debug(() -> "Found " + elements.size() + " elements for locator: " + locator);
             }
             return elements;
         } catch (Exception e) {
@@ -63,66 +203,113 @@ public abstract class BasePage {
         }
     }
 
+    // Serializes every node matched by the xpath with a single script call.
+    // extractorBody is the body of a JS function(node, text, all) returning a plain object per node:
+    // text(node, xpath) gives the innerText of the first relative match and all(node, xpath) the
+    // matching nodes. DOM nodes placed in the returned object come back as WebElement handles.
+    @SuppressWarnings("unchecked")
+    public <T> List<T> extractRecords(String rootXpath, String extractorBody, Function<Map<String, Object>, T> mapper) {
+        String script = bulkExtractScripts.computeIfAbsent(extractorBody, body -> BULK_EXTRACT_HELPERS
+                + "var extract = function (node, text, all) {\n" + body + "\n};\n"
+                + "return all(document, arguments[0]).map(function (node) { return extract(node, text, all); });");
+        Object raw = ((JavascriptExecutor) driver).executeScript(script, rootXpath);
+        List<T> records = new ArrayList<>();
+        if (raw instanceof List<?> rows) {
+            for (Object row : rows) {
+                records.add(mapper.apply((Map<String, Object>) row));
+            }
+        }
+        LoggerUtil.debug(() -> "Extracted " + records.size() + " records in one call for: " + rootXpath);
+        return records;
+    }
+
     // Clicks on the element found by locator, logs the action, and adds Allure step
     public void clickElement(By locator, String description) {
+        clickElement(null, locator, description);
+    }
+
+    // Clicks on a child element of the widget root, logs the action, and adds Allure step
+    public void clickElement(By root, By locator, String description) {
         String log = "Click on: " + description;
         Allure.step(log, () -> {
             LoggerUtil.step(log);
-            WebElement element = getElement(locator, description);
-            element.click();
+            long start = System.nanoTime();
+            withElement(root, locator, description, element -> {
+                element.click();
+                return null;
+            });
+            ActionMetrics.record(getClass(), "click", description, start);
         });
     }
 
     // Types text into the element found by locator, logs the action, and adds Allure step
     public void typeText(By locator, String text, String description) {
+        typeText(null, locator, text, description);
+    }
+
+    // Types text into a child element of the widget root, logs the action, and adds Allure step
+    public void typeText(By root, By locator, String text, String description) {
         String log = "Type text into: " + description + " | Text: " + text;
         Allure.step(log, () -> {
             LoggerUtil.step(log);
-            WebElement element = getElement(locator, description);
-            element.clear();
-            element.sendKeys(text);
+            long start = System.nanoTime();
+            withElement(root, locator, description, element -> {
+                element.clear();
+                element.sendKeys(text);
+                return null;
+            });
+            ActionMetrics.record(getClass(), "type", description, start);
         });
     }
 
     // Returns the text of the element found by locator
     public String getElementText(By locator, String description) {
+        return getElementText(null, locator, description);
+    }
+
+    // Returns the text of a child element of the widget root
+    public String getElementText(By root, By locator, String description) {
         LoggerUtil.step("Getting text from: " + description);
-        WebElement element = getElement(locator, description);
-        return element.getText();
+        return withElement(root, locator, description, true, WebElement::getText);
     }
 
     public String getElementValue(By locator, String description) {
         LoggerUtil.step("Getting value from: " + description);
-        WebElement element = getElement(locator, description);
-        return element.getAttribute("value");
+        return withElement(null, locator, description, true, element -> element.getAttribute("value"));
     }
 
     // Selects an option in a dropdown by visible text
     public void selectByVisibleText(By locator, String visibleText, String description) {
         LoggerUtil.step("Selecting from dropdown by visible text: " + visibleText + " on " + description);
-        WebElement dropdown = getElement(locator, description);
-        new Select(dropdown).selectByVisibleText(visibleText);
+        withElement(null, locator, description, dropdown -> {
+            new Select(dropdown).selectByVisibleText(visibleText);
+            return null;
+        });
     }
 
     // Selects an option in a dropdown by value
     public void selectByValue(By locator, String value, String description) {
         LoggerUtil.step("Selecting from dropdown by value: " + value + " on " + description);
-        WebElement dropdown = getElement(locator, description);
-        new Select(dropdown).selectByValue(value);
+        withElement(null, locator, description, dropdown -> {
+            new Select(dropdown).selectByValue(value);
+            return null;
+        });
     }
 
     // Selects an option in a dropdown by index
     public void selectByIndex(By locator, int index, String description) {
         LoggerUtil.step("Selecting from dropdown by index: " + index + " on " + description);
-        WebElement dropdown = getElement(locator, description);
-        new Select(dropdown).selectByIndex(index);
+        withElement(null, locator, description, dropdown -> {
+            new Select(dropdown).selectByIndex(index);
+            return null;
+        });
     }
 
     // Checks if the element is visible on the page
     public boolean isElementVisible(By locator, String description) {
-        this.waitForTimeout(1, "Default wait before checking if element exists to implement delayed wait.");
+        waitEngine.waitForDomToSettleBriefly("Page to settle before checking visibility of " + description);
 
-        LoggerUtil.debug("Checking visibility of: " + description);
+        LoggerUtil.debug(() -> "Checking visibility of: " + description);
         try {
             return driver.findElement(locator).isDisplayed();
         } catch (NoSuchElementException | TimeoutException e) {
@@ -133,118 +320,181 @@ public abstract class BasePage {
 
     // Waits until the element is visible and returns it, or null if not found
     public WebElement waitUntilVisible(By locator, String elementName) {
+        return waitUntilVisible(locator, elementName, false);
+    }
+
+    private WebElement waitUntilVisible(By locator, String elementName, boolean required) {
         try {
-            LoggerUtil.debug("Waiting for visibility of element: " + elementName);
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            LoggerUtil.debug(() -> "Waiting for visibility of element: " + elementName);
+            WebElement element = waitFor(ExpectedConditions.visibilityOfElementLocated(locator), locator.toString(), VISIBLE_TIMEOUT,
+                    "Visibility of " + elementName, required);
+            elementCache.put(locator, element);
             LoggerUtil.step("Element visible: " + elementName);
             return element;
         } catch (TimeoutException e) {
-            LoggerUtil.fail("Element not visible after 10 seconds: " + elementName);
+            LoggerUtil.fail("Element not visible in time: " + elementName);
+        } catch (SkipException e) {
+            throw e;
         } catch (Exception ex) {
             LoggerUtil.error("Exception while waiting for visibility of element: " + elementName + ". Error: " + ex.getMessage());
         }
         return null;
     }
 
+    // Readiness gate for page constructors: waits until the document is no longer loading and the
+    // widgets the page needs are visible, instead of waiting for the full load event
+    // (pairs with pageLoadStrategy=eager/none). Its timeouts are the ones SiteCircuitBreaker counts
+    protected void awaitReady(String pageName, By... requiredWidgets) {
+        LoggerUtil.step("Waiting for " + pageName + " to be ready");
+        try {
+            waitFor(d -> !"loading".equals(((JavascriptExecutor) d).executeScript("return document.readyState")),
+                    "readyState of " + getClass().getSimpleName(), DEFAULT_TIMEOUT, "Document of " + pageName + " to become interactive", true);
+        } catch (TimeoutException e) {
+            LoggerUtil.fail("Document of " + pageName + " still loading");
+        }
+        for (By widget : requiredWidgets) {
+            waitUntilVisible(widget, pageName + " widget " + widget, true);
+        }
+        // Page construction is timed from the first field initializer to the end of the first readiness gate
+        if (!constructionRecorded) {
+            constructionRecorded = true;
+            ActionMetrics.record(getClass(), "construct", pageName, constructionStartNanos);
+        }
+    }
+
     // Waits until the current URL matches the expected URL
     public void waitUntilExpectedUrl(String expectedUrl) {
         LoggerUtil.step("Waiting until URL becomes: " + expectedUrl);
-        for (int i = 0; i < 10; i++) {
-            String currentUrl = driver.getCurrentUrl();
-            LoggerUtil.debug("Attempt " + (i + 1) + ": Current URL - " + currentUrl);
-            if (currentUrl.equals(expectedUrl)) {
-                LoggerUtil.pass("URL matched expected: " + expectedUrl);
-                return;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                LoggerUtil.error("Thread interrupted while waiting for URL: " + e.getMessage());
-            }
+        try {
+            waitFor(ExpectedConditions.urlToBe(expectedUrl), "url " + expectedUrl, URL_TIMEOUT, "URL to become " + expectedUrl);
+            LoggerUtil.pass("URL matched expected: " + expectedUrl);
+        } catch (TimeoutException e) {
+            LoggerUtil.debug("Current URL - " + driver.getCurrentUrl());
+            LoggerUtil.fail("URL did not match expected value: " + expectedUrl);
         }
-        LoggerUtil.fail("URL did not match expected value: " + expectedUrl);
     }
 
     // Waits for the element to disappear from the page
     public void waitForElementToDisappear(By locator) {
-        int timeoutInSeconds = 5;
         try {
             LoggerUtil.debug("Waiting for element to disappear: " + locator.toString());
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            boolean disappeared = wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            boolean disappeared = waitFor(ExpectedConditions.invisibilityOfElementLocated(locator), "invisible " + locator, DISAPPEAR_TIMEOUT, "Disappearance of " + locator);
             if (disappeared) {
                 LoggerUtil.step("Element disappeared successfully: " + locator);
             } else {
                 LoggerUtil.fail("Element did not disappear in expected time: " + locator);
             }
         } catch (TimeoutException e) {
-            LoggerUtil.fail("Timeout: Element did not disappear within " + timeoutInSeconds + " seconds: " + locator);
+            LoggerUtil.fail("Timeout: Element did not disappear in time: " + locator);
+        } catch (SkipException e) {
+            throw e;
         } catch (Exception e) {
             LoggerUtil.error("Error while waiting for element to disappear: " + e.getMessage());
         }
     }
 
-    // Waits for a specified number of seconds (thread sleep)
-    public void waitForTimeout(int seconds, String reason) {
-        LoggerUtil.step("Waiting for " + seconds + " second(s). Reason: " + reason);
-        try {
-            Thread.sleep(seconds * 1000L);
-            LoggerUtil.debug("Waited for " + seconds + " second(s) successfully.");
-        } catch (InterruptedException e) {
-            LoggerUtil.error("Interrupted during wait: " + e.getMessage());
-            Thread.currentThread().interrupt();
-        }
+    // Waits until the DOM stops changing and no network requests are in flight
+    public boolean waitForPageToSettle(String reason) {
+        LoggerUtil.debug("Waiting for page to settle. Reason: " + reason);
+        return waitEngine.waitForDomToSettle(reason);
     }
 
-    // Selects a date from a custom date picker widget
+    // Same as waitForPageToSettle, capped at wait.quickSettleTimeout; for optional widgets
+    public boolean waitForPageToSettleBriefly(String reason) {
+        LoggerUtil.debug("Waiting briefly for page to settle. Reason: " + reason);
+        return waitEngine.waitForDomToSettleBriefly(reason);
+    }
+
+    // Runs the action and waits until the list matched by the xpath changes and settles
+    public boolean runAndWaitForListChange(String listXpath, Runnable action, String reason) {
+        LoggerUtil.debug("Waiting for list to change. Reason: " + reason);
+        return waitEngine.runAndWaitForListChange(listXpath, action, reason);
+    }
+
+    // Selects a date from a custom date picker widget with a small, fixed number of driver calls: the month
+    // delta is computed from the caption once, all month transitions are sent as one action sequence, and
+    // the day is found with one exact aria-label lookup. Clicks dropped during the picker's transition are
+    // detected from the caption, and the remaining delta is sent once more
     public void selectDateFromCustomPicker(LocalDate targetDate) {
+        YearMonth targetMonth = YearMonth.from(targetDate);
         String expectedMonthYear = targetDate.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + targetDate.getYear();
 
         LoggerUtil.step("Selecting date: " + targetDate);
+        long start = System.nanoTime();
+        try {
+            // Wait for calendar to be visible
+            WebElement monthCaption = this.waitUntilVisible(CALENDAR_CAPTION, "Month and year");
+            YearMonth shownMonth = parseCaption(monthCaption.getText());
+            if (shownMonth == null) {
+                LoggerUtil.fail("Unexpected calendar caption '" + monthCaption.getText().trim() + "', cannot reach the target month: " + expectedMonthYear);
+                return;
+            }
 
-        // Wait for calendar to be visible
-        WebElement monthCaption = this.waitUntilVisible(By.xpath("//div[@class=\"DayPicker-Caption\"]/div"), "Month and year");
-
-        // Navigate to correct month
-        for (int i = 0; i < 12; i++) {
-            String visibleMonth = monthCaption.getText().trim();
-
-            if (visibleMonth.equalsIgnoreCase(expectedMonthYear)) {
-                break;
+            long delta = ChronoUnit.MONTHS.between(shownMonth, targetMonth);
+            for (int attempt = 1; delta != 0; attempt++) {
+                sendMonthTransitions(delta);
+                try {
+                    // The picker re-renders its caption on navigation, so the caption is located afresh on every poll
+                    waitFor(ExpectedConditions.textToBePresentInElementLocated(CALENDAR_CAPTION, expectedMonthYear), null, CALENDAR_TIMEOUT,
+                            "Calendar to show " + expectedMonthYear);
+                    delta = 0;
+                } catch (TimeoutException e) {
+                    String caption = currentCaption();
+                    YearMonth reached = parseCaption(caption);
+                    if (attempt == 2 || reached == null) {
+                        LoggerUtil.fail("Calendar shows '" + caption + "' after sending the month transitions " + attempt
+                                + " time(s). Cannot reach the target month: " + expectedMonthYear);
+                        return;
+                    }
+                    delta = ChronoUnit.MONTHS.between(reached, targetMonth);
+                    LoggerUtil.debug("Calendar stopped at " + caption + ", sending the remaining " + delta + " month transition(s)");
+                }
             }
 
-            WebElement nextButton = driver.findElement(By.xpath("//span[@aria-label=\"Next Month\"]"));
-            if (nextButton.isEnabled()) {
-                nextButton.click();
-                wait.until(ExpectedConditions.not(ExpectedConditions.textToBePresentInElement(monthCaption, visibleMonth)));
-            } else {
-                LoggerUtil.fail("Next button disabled. Cannot reach the target month: " + expectedMonthYear);
+            // Build aria-label for target date, e.g., "Tue Aug 05 2025"
+            String targetAriaLabel = targetDate.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH)
+                    + " " + targetDate.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH)
+                    + " " + String.format("%02d", targetDate.getDayOfMonth())
+                    + " " + targetDate.getYear();
+
+            List<WebElement> days = driver.findElements(By.xpath("//div[contains(@class, \"DayPicker-Day\") and @aria-disabled=\"false\" and @aria-label=\""
+                    + targetAriaLabel + "\"]"));
+            if (days.isEmpty()) {
+                LoggerUtil.fail("Could not find the expected date: " + targetAriaLabel);
                 return;
             }
+            days.get(0).click();
+            LoggerUtil.pass("Successfully selected date: " + targetAriaLabel);
+        } finally {
+            ActionMetrics.record(getClass(), "selectDate", targetDate.toString(), start);
         }
+    }
 
-        // Build aria-label for target date, e.g., "Tue Aug 05 2025"
-        String targetAriaLabel = targetDate.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH)
-                + " " + targetDate.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH)
-                + " " + String.format("%02d", targetDate.getDayOfMonth())
-                + " " + targetDate.getYear();
-
-        List<WebElement> dateElements = driver.findElements(By.xpath("//div[contains(@class, \"DayPicker-Day\") and @aria-disabled=\"false\"]"));
-        boolean dateFound = false;
+    // Clicks Next/Previous Month |delta| times as one action sequence; clicks go to the pointer position,
+    // so the sequence does not depend on the button surviving re-renders
+    private void sendMonthTransitions(long delta) {
+        WebElement button = driver.findElement(By.xpath("//span[@aria-label=\"" + (delta > 0 ? "Next Month" : "Previous Month") + "\"]"));
+        Actions transitions = new Actions(driver).moveToElement(button);
+        for (long i = 0; i < Math.abs(delta); i++) {
+            transitions.click();
+        }
+        transitions.perform();
+    }
 
-        for (WebElement day : dateElements) {
-            String ariaLabel = day.getAttribute("aria-label");
-            if (ariaLabel != null && ariaLabel.equals(targetAriaLabel)) {
-                day.click();
-                LoggerUtil.pass("Successfully selected date: " + ariaLabel);
-                dateFound = true;
-                break;
-            }
+    private String currentCaption() {
+        try {
+            return driver.findElement(CALENDAR_CAPTION).getText().trim();
+        } catch (WebDriverException e) {
+            return "";
         }
+    }
 
-        if (!dateFound) {
-            LoggerUtil.fail("Could not find the expected date: " + targetAriaLabel);
+    // Month shown by a caption such as "September 2025", or null when the caption cannot be parsed
+    private static YearMonth parseCaption(String caption) {
+        try {
+            return YearMonth.parse(caption.trim(), CAPTION_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
         }
     }
 }
@@ -0,0 +1,52 @@
+package com.framework.base;
+
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.Optional;
+
+// CdpSupport sends raw Chrome DevTools Protocol commands and subscribes to raw events by name,
+// so framework features do not depend on one of Selenium's versioned devtools-vNNN modules.
+// Only Chromium-based drivers (local, or Grid sessions augmented by DriverFactory) expose DevTools;
+// everything else gets an empty Optional.
+public final class CdpSupport {
+
+    private CdpSupport() {
+    }
+
+    // Returns the driver's DevTools connection with a session attached, if the browser supports CDP
+    public static Optional<DevTools> devTools(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            return Optional.empty();
+        }
+        try {
+            Optional<DevTools> devTools = hasDevTools.maybeGetDevTools();
+            devTools.ifPresent(DevTools::createSessionIfThereIsNotOne);
+            return devTools;
+        } catch (RuntimeException e) {
+            LoggerUtil.debug("Chrome DevTools is not available: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Sends a CDP command and returns its result object
+    public static Map<String, Object> send(DevTools devTools, String method, Map<String, Object> params) {
+        return devTools.send(new Command<>(method, params, input -> input.read(Json.MAP_TYPE)));
+    }
+
+    // A CDP event whose params are delivered as a plain map
+    public static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    // Reads a numeric CDP field that may arrive as Long or Double
+    public static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
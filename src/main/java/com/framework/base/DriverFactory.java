@@ -1,65 +1,262 @@
 package com.framework.base;
 
 import com.framework.utils.ConfigReader;
+import com.framework.utils.TestContext;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 // DriverFactory is a thread-safe factory class for managing WebDriver instances.
 // It initializes, provides, and quits WebDriver objects for different browsers (Chrome, Firefox)
 // using ThreadLocal to ensure each test thread gets its own WebDriver instance.
+// Drivers can either be launched per caller (initDriver/quitDriver) or leased from a
+// shared pool of pre-warmed sessions (leaseDriver/releaseDriver).
+// With grid.url set, sessions are opened on that Selenium Grid instead of a local browser.
+// No session is handed out while SiteCircuitBreaker considers the site down.
 public class DriverFactory {
     private static final ThreadLocal<WebDriver> tlDriver = new ThreadLocal<>();
+    private static final ThreadLocal<SessionPool.PooledSession> tlSession = new ThreadLocal<>();
+    private static volatile SessionPool sessionPool;
+    // Keyed by the undecorated driver and dropped when the session quits, including pool evictions
+    private static final Map<WebDriver, NetworkMonitor> networkMonitors = new ConcurrentHashMap<>();
+    private static volatile boolean chromeDriverReady = false;
+    private static volatile boolean firefoxDriverReady = false;
+
+    // The JVM runs shutdown hooks concurrently, so the steps that depend on each other share this one hook:
+    // pooled sessions quit first, closing their HAR recorders, and only then is the HAR archive written
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::shutdown, "driver-factory-shutdown"));
+    }
 
+    private static void shutdown() {
+        SessionPool pool = sessionPool;
+        if (pool != null) {
+            pool.shutdown();
+        }
+        HarMode.save();
+    }
 
     private static String getBrowserFromConfig() {
-        return ConfigReader.getProperty("browser") != null ? ConfigReader.getProperty("browser") : "chrome";
+        return ConfigReader.getProperty("browser", "chrome");
     }
 
-    public static WebDriver initDriver() {
-        String browser = System.getProperty("browser");
-        if (browser == null || browser.isEmpty()) {
-            browser = getBrowserFromConfig();
+    // Launches a new browser session based on the configured browser
+    static WebDriver createDriver() {
+        // -Dbrowser=... overrides the file value through ConfigReader's system property layer
+        String browser = getBrowserFromConfig().toLowerCase();
+        String gridUrl = ConfigReader.getProperty("grid.url", "");
+        boolean headless = ConfigReader.getBoolean("headless", false);
+        List<String> windowSize = ConfigReader.getList("window.size");
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(ConfigReader.getProperty("pageLoadStrategy", "normal"));
+        if (pageLoadStrategy == null) {
+            throw new IllegalStateException("Invalid pageLoadStrategy '" + ConfigReader.getProperty("pageLoadStrategy") + "', expected normal, eager or none");
         }
-        browser = browser.toLowerCase();
+        String width = windowSize.size() == 2 ? windowSize.get(0) : "1920";
+        String height = windowSize.size() == 2 ? windowSize.get(1) : "1080";
 
+        WebDriver driver;
         switch (browser) {
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
                 firefoxOptions.addArguments("--no-sandbox");
                 firefoxOptions.addArguments("--disable-dev-shm-usage");
                 firefoxOptions.addArguments("--disable-gpu");
-                tlDriver.set(new FirefoxDriver(firefoxOptions));
+                firefoxOptions.setPageLoadStrategy(pageLoadStrategy);
+                if (headless) {
+                    firefoxOptions.addArguments("-headless", "--width=" + width, "--height=" + height);
+                }
+                if (gridUrl.isEmpty()) {
+                    setupFirefoxDriver();
+                    driver = new FirefoxDriver(firefoxOptions);
+                } else {
+                    driver = createRemoteDriver(gridUrl, firefoxOptions);
+                }
                 break;
 
             case "chrome":
             default:
-                WebDriverManager.chromedriver().setup();
                 ChromeOptions chromeOptions = new ChromeOptions();
                 chromeOptions.addArguments("--no-sandbox");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
                 chromeOptions.addArguments("--disable-gpu");
                 chromeOptions.addArguments("--remote-allow-origins=*");
-                tlDriver.set(new ChromeDriver(chromeOptions));
+                chromeOptions.setPageLoadStrategy(pageLoadStrategy);
+                if (headless) {
+                    chromeOptions.addArguments("--headless=new", "--window-size=" + width + "," + height);
+                }
+                if (gridUrl.isEmpty()) {
+                    setupChromeDriver();
+                    driver = new ChromeDriver(chromeOptions);
+                } else {
+                    driver = createRemoteDriver(gridUrl, chromeOptions);
+                }
                 break;
         }
 
-        getDriver().manage().window().maximize();
+        // Headless browsers have no screen to maximize to; they use the fixed window.size viewport
+        if (!headless) {
+            driver.manage().window().maximize();
+        }
+        // WaitEngine resolves its async scripts itself; keep the driver limit above its timeouts
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(60));
+        Optional<NetworkMonitor> networkMonitor = NetworkProfiles.apply(driver);
+        HarMode.apply(driver);
+        ScreencastRecorder.start(driver);
+
+        // Navigation events invalidate the element caches of page objects and feed the site circuit breaker
+        WebDriver decorated = new EventFiringDecorator<>(WebDriver.class,
+                new NavigationTracker(), new SiteCircuitBreaker.NavigationListener(), new ScreencastRecorder.QuitListener(),
+                new HarMode.QuitListener(), new NetworkMonitorQuitListener()).decorate(driver);
+        networkMonitor.ifPresent(monitor -> networkMonitors.put(driver, monitor));
+        return decorated;
+    }
+
+    // Opens a session on a Selenium Grid; the augmented driver exposes DevTools when the Grid node offers CDP
+    private static WebDriver createRemoteDriver(String gridUrl, Capabilities options) {
+        URL url;
+        try {
+            url = new URL(gridUrl);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid grid.url '" + gridUrl + "'", e);
+        }
+        return new Augmenter().augment(new RemoteWebDriver(url, options));
+    }
+
+    // WebDriverManager resolution is only needed once per JVM, not once per session
+    private static synchronized void setupChromeDriver() {
+        if (!chromeDriverReady) {
+            WebDriverManager.chromedriver().setup();
+            chromeDriverReady = true;
+        }
+    }
+
+    private static synchronized void setupFirefoxDriver() {
+        if (!firefoxDriverReady) {
+            WebDriverManager.firefoxdriver().setup();
+            firefoxDriverReady = true;
+        }
+    }
+
+    public static WebDriver initDriver() {
+        SiteCircuitBreaker.checkAvailable("starting a browser session");
+        WebDriver driver = createDriver();
+        // Start from the cached site state (cookies, localStorage) when a valid one exists
+        SessionState.restore(driver);
+        tlDriver.set(driver);
         return getDriver();
     }
 
+    // Returns the shared session pool, creating and pre-warming it on first use
+    public static SessionPool getSessionPool() {
+        if (sessionPool == null) {
+            synchronized (DriverFactory.class) {
+                if (sessionPool == null) {
+                    SessionPool pool = new SessionPool(DriverFactory::createDriver,
+                            ConfigReader.getInt("pool.size", 1),
+                            ConfigReader.getInt("pool.warmup", 1),
+                            ConfigReader.getInt("pool.maxUses", 20),
+                            ConfigReader.getDuration("pool.leaseTimeout", Duration.ofMinutes(5)).toMillis());
+                    sessionPool = pool;
+                }
+            }
+        }
+        return sessionPool;
+    }
+
+    // Leases a pre-warmed session from the pool and binds it to the current thread
+    public static WebDriver leaseDriver() {
+        if (tlSession.get() != null) {
+            return getDriver();
+        }
+        // No point in leasing a browser while the site is known to be down
+        SiteCircuitBreaker.checkAvailable("leasing a browser session");
+        SessionPool.PooledSession session = getSessionPool().lease();
+        tlSession.set(session);
+        tlDriver.set(session.getDriver());
+        ScreencastRecorder.forDriver(session.getDriver()).ifPresent(ScreencastRecorder::clear);
+        // Reused sessions were reset on release, so the cached site state is applied on every lease
+        SessionState.restore(session.getDriver());
+        return getDriver();
+    }
+
+    // Returns the current thread's leased session to the pool; failed sessions are evicted
+    public static void releaseDriver(boolean failed) {
+        SessionPool.PooledSession session = tlSession.get();
+        if (session == null) {
+            quitDriver();
+            return;
+        }
+        reportNetwork(session.getDriver());
+        attachScreencastOnFailure(session.getDriver(), failed);
+        tlSession.remove();
+        tlDriver.remove();
+        PageWiring.clear();
+        getSessionPool().release(session, failed);
+    }
+
+    // Logs the blocked-request statistics gathered for the driver since the last report
+    private static void reportNetwork(WebDriver driver) {
+        WebDriver raw = driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+        NetworkMonitor monitor = raw == null ? null : networkMonitors.get(raw);
+        if (monitor != null) {
+            monitor.report();
+        }
+    }
+
+    // Driver listener that forgets a session's network monitor before the session quits
+    public static class NetworkMonitorQuitListener implements WebDriverListener {
+        @Override
+        public void beforeQuit(WebDriver driver) {
+            networkMonitors.remove(driver);
+        }
+    }
+
+    // Failure video: the session failed, or soft assertions of the current test already did
+    private static void attachScreencastOnFailure(WebDriver driver, boolean failed) {
+        if (failed || TestContext.current().hasFailures()) {
+            ScreencastRecorder.forDriver(driver).ifPresent(recorder -> recorder.attachToReport("Screencast before failure"));
+        }
+    }
+
     public static WebDriver getDriver() {
         return tlDriver.get();
     }
 
     public static void quitDriver() {
+        SessionPool.PooledSession session = tlSession.get();
+        if (session != null) {
+            reportNetwork(session.getDriver());
+            attachScreencastOnFailure(session.getDriver(), false);
+            tlSession.remove();
+            tlDriver.remove();
+            PageWiring.clear();
+            getSessionPool().discard(session);
+            return;
+        }
         if (getDriver() != null) {
+            reportNetwork(getDriver());
+            attachScreencastOnFailure(getDriver(), false);
             getDriver().quit();
             tlDriver.remove();
+            PageWiring.clear();
         }
     }
 }
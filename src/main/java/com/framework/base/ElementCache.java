@@ -0,0 +1,99 @@
+package com.framework.base;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// ElementCache keeps resolved element handles of one page object keyed by locator.
+// A cached handle is served without a round trip to the browser as long as no navigation has
+// happened since it was stored. Handles that went stale or hidden in the meantime surface as
+// exceptions on use; BasePage.withElement invalidates and re-resolves them then. Reads do not fail on a
+// hidden handle, so they use getDisplayed, which still checks the handle before serving it.
+// Page objects are confined to one thread, so the per-page map needs no synchronization.
+public class ElementCache {
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+
+    private final Map<Object, WebElement> elements = new HashMap<>();
+    private long epoch = NavigationTracker.currentEpoch();
+    private long hits = 0;
+    private long misses = 0;
+
+    // Returns the cached element stored since the last navigation, otherwise null
+    public WebElement get(Object key) {
+        return lookup(key, false);
+    }
+
+    // Returns the cached element only while it is still attached and displayed, otherwise null
+    public WebElement getDisplayed(Object key) {
+        return lookup(key, true);
+    }
+
+    private WebElement lookup(Object key, boolean displayed) {
+        syncWithNavigation();
+        WebElement element = elements.get(key);
+        if (element != null) {
+            if (!displayed || isDisplayed(element)) {
+                hits++;
+                totalHits.incrementAndGet();
+                return element;
+            }
+            elements.remove(key);
+        }
+        misses++;
+        totalMisses.incrementAndGet();
+        return null;
+    }
+
+    private static boolean isDisplayed(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    public void put(Object key, WebElement element) {
+        syncWithNavigation();
+        elements.put(key, element);
+    }
+
+    public void invalidate(Object key) {
+        elements.remove(key);
+    }
+
+    public void invalidateAll() {
+        elements.clear();
+    }
+
+    private void syncWithNavigation() {
+        long current = NavigationTracker.currentEpoch();
+        if (current != epoch) {
+            elements.clear();
+            epoch = current;
+        }
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public static long getTotalHits() {
+        return totalHits.get();
+    }
+
+    public static long getTotalMisses() {
+        return totalMisses.get();
+    }
+
+    // Cache key for a child locator resolved inside a widget root
+    public record ScopedKey(Object root, Object child) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// HarArchive is an in-memory, HAR 1.2 shaped list of recorded request/response pairs.
+// Entries are plain maps (log.entries[].request/response) so the file can be opened by HAR tools;
+// bodies are stored base64 encoded. For replay, entries are indexed by "METHOD url" and repeated
+// requests are served in recording order, the last recorded response being reused once exhausted.
+// Volatile query parameters are left out of the index key, so cache busters still match: parameters
+// named in har.ignoreParams and parameters whose value is an epoch timestamp (10 to 13 digits).
+public class HarArchive {
+    private static final Json JSON = new Json();
+    private static final Set<String> IGNORED_PARAMS = Arrays.stream(
+                    ConfigReader.getProperty("har.ignoreParams", "_,rnd,cb,ts,timestamp").split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    private static final Pattern EPOCH_VALUE = Pattern.compile("\\d{10,13}");
+
+    private final List<Map<String, Object>> entries = new ArrayList<>();
+    private final Map<String, List<Map<String, Object>>> index = new HashMap<>();
+    private final Map<String, Integer> cursors = new HashMap<>();
+    // Entries were added since the archive was loaded or last saved
+    private boolean changed;
+
+    @SuppressWarnings("unchecked")
+    public static HarArchive load(Path file) {
+        HarArchive archive = new HarArchive();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Object> root = JSON.toType(reader, Json.MAP_TYPE);
+            Map<String, Object> log = (Map<String, Object>) root.get("log");
+            for (Object entry : (List<Object>) log.get("entries")) {
+                archive.add((Map<String, Object>) entry);
+            }
+            archive.changed = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read HAR archive " + file, e);
+        }
+        return archive;
+    }
+
+    // Builds a HAR entry from the recorded request and response parts
+    public static Map<String, Object> entry(String method, String url, int status, String statusText,
+                                            Map<String, Object> headers, String mimeType, String base64Body, long timeMillis) {
+        List<Map<String, Object>> headerList = new ArrayList<>();
+        headers.forEach((name, value) -> headerList.add(Map.of("name", name, "value", String.valueOf(value))));
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("mimeType", mimeType == null ? "" : mimeType);
+        content.put("text", base64Body == null ? "" : base64Body);
+        content.put("encoding", "base64");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", status);
+        response.put("statusText", statusText == null ? "" : statusText);
+        response.put("headers", headerList);
+        response.put("content", content);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("request", Map.of("method", method, "url", url));
+        entry.put("response", response);
+        entry.put("time", timeMillis);
+        return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized void add(Map<String, Object> entry) {
+        entries.add(entry);
+        changed = true;
+        Map<String, Object> request = (Map<String, Object>) entry.get("request");
+        index.computeIfAbsent(key(String.valueOf(request.get("method")), String.valueOf(request.get("url"))), k -> new ArrayList<>())
+                .add(entry);
+    }
+
+    // Next recorded response for the request, if any
+    public synchronized Optional<Map<String, Object>> next(String method, String url) {
+        String key = key(method, url);
+        List<Map<String, Object>> candidates = index.get(key);
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        int cursor = cursors.merge(key, 1, Integer::sum) - 1;
+        return Optional.of(candidates.get(Math.min(cursor, candidates.size() - 1)));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Writes the archive unless nothing was added since the last save; returns whether it was written
+    public synchronized boolean saveIfChanged(Path file) {
+        if (!changed) {
+            return false;
+        }
+        save(file);
+        return true;
+    }
+
+    public synchronized void save(Path file) {
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Map.of("name", "Selenium-automation-using-Java-and-Maven", "version", "1.0"));
+        log.put("entries", new ArrayList<>(entries));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, JSON.toJson(Map.of("log", log)), StandardCharsets.UTF_8);
+            changed = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write HAR archive " + file, e);
+        }
+    }
+
+    private static String key(String method, String url) {
+        return method.toUpperCase() + " " + normalize(url);
+    }
+
+    // Drops the fragment and volatile query parameters (see class comment), keeping the others in order
+    static String normalize(String url) {
+        int fragment = url.indexOf('#');
+        String withoutFragment = fragment < 0 ? url : url.substring(0, fragment);
+        int query = withoutFragment.indexOf('?');
+        if (query < 0) {
+            return withoutFragment;
+        }
+        StringJoiner kept = new StringJoiner("&", withoutFragment.substring(0, query + 1), "").setEmptyValue(withoutFragment.substring(0, query));
+        for (String parameter : withoutFragment.substring(query + 1).split("&")) {
+            int equals = parameter.indexOf('=');
+            String name = equals < 0 ? parameter : parameter.substring(0, equals);
+            String value = equals < 0 ? "" : parameter.substring(equals + 1);
+            if (!parameter.isEmpty() && !IGNORED_PARAMS.contains(name) && !EPOCH_VALUE.matcher(value).matches()) {
+                kept.add(parameter);
+            }
+        }
+        return kept.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// HarMode switches the browser network between live traffic and a HAR archive, selected with network.mode:
+//   live    the default, requests go to the network
+//   record  every response is captured into har.file, written once at shutdown
+//   replay  responses are served from har.file after har.latency, nothing reaches the network
+// All sessions of the JVM share one archive, so parallel runs record into and replay from the same file.
+// Recorders and replayers are registered per browser session and closed by QuitListener when the
+// session quits, including sessions the pool evicts.
+public final class HarMode {
+    // Keyed by the undecorated driver, which is what driver listeners receive
+    private static final Map<WebDriver, HarRecorder> recorders = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, HarReplayer> replayers = new ConcurrentHashMap<>();
+    private static volatile HarArchive archive;
+
+    private HarMode() {
+    }
+
+    public static String getMode() {
+        return ConfigReader.getProperty("network.mode", "live").toLowerCase();
+    }
+
+    private static Path harFile() {
+        return Paths.get(ConfigReader.getProperty("har.file", "har/booking-flow.har.json"));
+    }
+
+    // Attaches a recorder or replayer to a freshly created driver according to network.mode
+    static void apply(WebDriver driver) {
+        String mode = getMode();
+        if (mode.equals("live")) {
+            return;
+        }
+        if (!mode.equals("record") && !mode.equals("replay")) {
+            throw new IllegalStateException("Invalid network.mode '" + mode + "', expected live, record or replay");
+        }
+        Optional<DevTools> devTools = CdpSupport.devTools(driver);
+        if (devTools.isEmpty()) {
+            throw new IllegalStateException("network.mode=" + mode + " needs Chrome DevTools; use browser=chrome");
+        }
+        if (mode.equals("record")) {
+            HarRecorder recorder = new HarRecorder(getArchive(false));
+            recorder.attach(devTools.get());
+            recorders.put(driver, recorder);
+        } else {
+            HarReplayer replayer = new HarReplayer(getArchive(true), ConfigReader.getDuration("har.latency", Duration.ZERO));
+            replayer.attach(devTools.get());
+            replayers.put(driver, replayer);
+        }
+    }
+
+    private static synchronized HarArchive getArchive(boolean replay) {
+        if (archive == null) {
+            Path file = harFile();
+            if (replay) {
+                if (!Files.exists(file)) {
+                    throw new IllegalStateException("No HAR archive at " + file.toAbsolutePath() + "; run once with -Dnetwork.mode=record");
+                }
+                archive = HarArchive.load(file);
+                LoggerUtil.log("[Replay] Loaded " + archive.size() + " recorded response(s) from " + file);
+            } else {
+                archive = new HarArchive();
+            }
+        }
+        return archive;
+    }
+
+    // Writes the recorded archive, after the pending body fetches of live sessions finish, if it changed
+    // since the last save; called once by DriverFactory's shutdown hook, after the pool has quit its sessions
+    static void save() {
+        HarArchive recorded = archive;
+        if (recorded == null || !getMode().equals("record")) {
+            return;
+        }
+        recorders.values().forEach(HarRecorder::flush);
+        if (recorded.saveIfChanged(harFile())) {
+            LoggerUtil.debug(() -> "[Record] Saved " + recorded.size() + " response(s) to " + harFile());
+        }
+    }
+
+    // Driver listener that closes and forgets a session's recorder or replayer before the session quits
+    public static class QuitListener implements WebDriverListener {
+        @Override
+        public void beforeQuit(WebDriver driver) {
+            HarRecorder recorder = recorders.remove(driver);
+            if (recorder != null) {
+                recorder.close();
+            }
+            HarReplayer replayer = replayers.remove(driver);
+            if (replayer != null) {
+                replayer.close();
+                LoggerUtil.debug(() -> "[Replay] " + replayer.getSummary());
+            }
+        }
+    }
+}
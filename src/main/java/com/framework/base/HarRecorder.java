@@ -0,0 +1,120 @@
+package com.framework.base;
+
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// HarRecorder captures every request/response of a Chrome session into a HarArchive through the
+// CDP Network domain. Response bodies are fetched with Network.getResponseBody on a separate thread
+// so the DevTools event thread is never blocked by a command round trip.
+public class HarRecorder {
+    private final HarArchive archive;
+    private final Map<String, PendingRequest> pending = new ConcurrentHashMap<>();
+    private final ExecutorService bodyFetcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "har-recorder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final class PendingRequest {
+        private final String method;
+        private final String url;
+        private final long startMillis = System.currentTimeMillis();
+        private volatile Map<String, Object> response;
+
+        private PendingRequest(String method, String url) {
+            this.method = method;
+            this.url = url;
+        }
+    }
+
+    public HarRecorder(HarArchive archive) {
+        this.archive = archive;
+    }
+
+    @SuppressWarnings("unchecked")
+    void attach(DevTools devTools) {
+        CdpSupport.send(devTools, "Network.enable", Map.of("maxTotalBufferSize", 100_000_000, "maxResourceBufferSize", 20_000_000));
+
+        devTools.addListener(CdpSupport.event("Network.requestWillBeSent"), event -> {
+            String requestId = String.valueOf(event.get("requestId"));
+            Map<String, Object> request = (Map<String, Object>) event.get("request");
+            Map<String, Object> redirectResponse = (Map<String, Object>) event.get("redirectResponse");
+            PendingRequest previous = pending.get(requestId);
+            if (redirectResponse != null && previous != null) {
+                // a redirect reuses the request id; the hop has no body of its own
+                previous.response = redirectResponse;
+                complete(previous, null);
+            }
+            pending.put(requestId, new PendingRequest(String.valueOf(request.get("method")), String.valueOf(request.get("url"))));
+        });
+        devTools.addListener(CdpSupport.event("Network.responseReceived"), event -> {
+            PendingRequest request = pending.get(String.valueOf(event.get("requestId")));
+            if (request != null) {
+                request.response = (Map<String, Object>) event.get("response");
+            }
+        });
+        devTools.addListener(CdpSupport.event("Network.loadingFinished"), event -> {
+            String requestId = String.valueOf(event.get("requestId"));
+            PendingRequest request = pending.remove(requestId);
+            if (request == null || request.response == null) {
+                return;
+            }
+            bodyFetcher.submit(() -> {
+                String body = null;
+                try {
+                    Map<String, Object> result = CdpSupport.send(devTools, "Network.getResponseBody", Map.of("requestId", requestId));
+                    String raw = String.valueOf(result.get("body"));
+                    body = Boolean.TRUE.equals(result.get("base64Encoded"))
+                            ? raw
+                            : Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+                } catch (RuntimeException e) {
+                    LoggerUtil.debug(() -> "No body recorded for " + request.url + ": " + e.getMessage());
+                }
+                complete(request, body);
+            });
+        });
+        devTools.addListener(CdpSupport.event("Network.loadingFailed"), event -> pending.remove(String.valueOf(event.get("requestId"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(PendingRequest request, String base64Body) {
+        Map<String, Object> response = request.response;
+        Map<String, Object> headers = response.get("headers") instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+        archive.add(HarArchive.entry(request.method, request.url,
+                (int) CdpSupport.longValue(response.get("status")), (String) response.get("statusText"),
+                headers, (String) response.get("mimeType"), base64Body,
+                System.currentTimeMillis() - request.startMillis));
+    }
+
+    // Finishes the queued body fetches and stops the fetcher thread; called before the session quits
+    public void close() {
+        flush();
+        bodyFetcher.shutdownNow();
+        pending.clear();
+    }
+
+    // Waits for the body fetches queued so far so the archive is complete before it is saved
+    public void flush() {
+        if (bodyFetcher.isShutdown()) {
+            return;
+        }
+        try {
+            bodyFetcher.submit(() -> { }).get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            LoggerUtil.debug(() -> "HAR body fetches did not finish: " + e);
+        }
+    }
+}
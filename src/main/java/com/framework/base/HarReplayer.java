@@ -0,0 +1,89 @@
+package com.framework.base;
+
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// HarReplayer serves a Chrome session entirely from a HarArchive. Every request is paused with the
+// CDP Fetch domain and answered in-process with Fetch.fulfillRequest, optionally after a fixed
+// injected latency; requests missing from the archive fail as if the machine were offline.
+// Fetch interception is used instead of a local HTTP proxy because it also covers HTTPS without
+// certificate tricks.
+public class HarReplayer {
+    // Bodies are stored decoded, so transfer encodings and lengths from the recording no longer apply
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    private final HarArchive archive;
+    private final Duration latency;
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong missed = new AtomicLong();
+    private final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "har-replayer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HarReplayer(HarArchive archive, Duration latency) {
+        this.archive = archive;
+        this.latency = latency;
+    }
+
+    @SuppressWarnings("unchecked")
+    void attach(DevTools devTools) {
+        devTools.addListener(CdpSupport.event("Fetch.requestPaused"), event -> {
+            String requestId = String.valueOf(event.get("requestId"));
+            Map<String, Object> request = (Map<String, Object>) event.get("request");
+            Optional<Map<String, Object>> entry = archive.next(String.valueOf(request.get("method")), String.valueOf(request.get("url")));
+            responder.schedule(() -> respond(devTools, requestId, String.valueOf(request.get("url")), entry),
+                    latency.toMillis(), TimeUnit.MILLISECONDS);
+        });
+        CdpSupport.send(devTools, "Fetch.enable", Map.of("patterns", List.of(Map.of("urlPattern", "*", "requestStage", "Request"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respond(DevTools devTools, String requestId, String url, Optional<Map<String, Object>> entry) {
+        try {
+            if (entry.isEmpty()) {
+                missed.incrementAndGet();
+                LoggerUtil.debug(() -> "[Replay] No recorded response for " + url);
+                CdpSupport.send(devTools, "Fetch.failRequest", Map.of("requestId", requestId, "errorReason", "InternetDisconnected"));
+                return;
+            }
+            Map<String, Object> response = (Map<String, Object>) entry.get().get("response");
+            Map<String, Object> content = (Map<String, Object>) response.get("content");
+            List<Map<String, Object>> headers = new ArrayList<>();
+            for (Map<String, Object> header : (List<Map<String, Object>>) response.get("headers")) {
+                if (!SKIPPED_HEADERS.contains(String.valueOf(header.get("name")).toLowerCase())) {
+                    headers.add(header);
+                }
+            }
+            CdpSupport.send(devTools, "Fetch.fulfillRequest", Map.of(
+                    "requestId", requestId,
+                    "responseCode", CdpSupport.longValue(response.get("status")),
+                    "responseHeaders", headers,
+                    "body", String.valueOf(content.getOrDefault("text", ""))));
+            served.incrementAndGet();
+        } catch (RuntimeException e) {
+            LoggerUtil.debug(() -> "[Replay] Failed to answer " + url + ": " + e.getMessage());
+        }
+    }
+
+    // Stops the responder thread; requests still waiting for their latency die with the session
+    public void close() {
+        responder.shutdownNow();
+    }
+
+    public String getSummary() {
+        return "served=" + served.get() + ", missing=" + missed.get();
+    }
+}
@@ -0,0 +1,37 @@
+package com.framework.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+
+// NavigationTracker counts navigations (get, back/forward/refresh, window switches) per thread.
+// DriverFactory decorates every driver with it so ElementCache can drop cached handles as soon
+// as the page they belong to has been navigated away from.
+public class NavigationTracker implements WebDriverListener {
+    private static final ThreadLocal<long[]> epoch = ThreadLocal.withInitial(() -> new long[1]);
+
+    // Number of navigations performed on the current thread's driver so far
+    public static long currentEpoch() {
+        return epoch.get()[0];
+    }
+
+    public static void markNavigation() {
+        epoch.get()[0]++;
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        markNavigation();
+    }
+
+    @Override
+    public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args, Object result) {
+        markNavigation();
+    }
+
+    @Override
+    public void afterWindow(WebDriver.TargetLocator targetLocator, String nameOrHandle, WebDriver driver) {
+        markNavigation();
+    }
+}
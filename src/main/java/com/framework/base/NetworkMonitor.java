@@ -0,0 +1,82 @@
+package com.framework.base;
+
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// NetworkMonitor counts requests blocked by the active network profiles per page (document URL).
+// Blocked requests are never downloaded, so the bytes saved are estimated from the average encoded
+// size of requests of the same resource type that did load in this session.
+// CDP events arrive on the DevTools thread, hence the concurrent collections.
+public class NetworkMonitor {
+    private final Map<String, RequestInfo> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, PageStats> pages = new ConcurrentHashMap<>();
+    private final Map<String, SizeStats> sizesByType = new ConcurrentHashMap<>();
+
+    private record RequestInfo(String documentUrl, String type) {
+    }
+
+    private static final class PageStats {
+        private final LongAdder blocked = new LongAdder();
+        private final LongAdder estimatedBytesSaved = new LongAdder();
+    }
+
+    private static final class SizeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private long average() {
+            long loaded = count.sum();
+            return loaded == 0 ? 0 : bytes.sum() / loaded;
+        }
+    }
+
+    // Subscribes to the Network events needed for the statistics; Network must already be enabled
+    void attach(DevTools devTools) {
+        devTools.addListener(CdpSupport.event("Network.requestWillBeSent"), event -> {
+            Object documentUrl = event.get("documentURL");
+            Object type = event.get("type");
+            inFlight.put(String.valueOf(event.get("requestId")),
+                    new RequestInfo(documentUrl == null ? "unknown" : documentUrl.toString(), type == null ? "Other" : type.toString()));
+        });
+        devTools.addListener(CdpSupport.event("Network.loadingFinished"), event -> {
+            RequestInfo request = inFlight.remove(String.valueOf(event.get("requestId")));
+            if (request != null) {
+                SizeStats sizes = sizesByType.computeIfAbsent(request.type(), key -> new SizeStats());
+                sizes.count.increment();
+                sizes.bytes.add(CdpSupport.longValue(event.get("encodedDataLength")));
+            }
+        });
+        devTools.addListener(CdpSupport.event("Network.loadingFailed"), event -> {
+            RequestInfo request = inFlight.remove(String.valueOf(event.get("requestId")));
+            if (request != null && event.get("blockedReason") != null) {
+                PageStats stats = pages.computeIfAbsent(request.documentUrl(), key -> new PageStats());
+                stats.blocked.increment();
+                SizeStats sizes = sizesByType.get(request.type());
+                stats.estimatedBytesSaved.add(sizes == null ? 0 : sizes.average());
+            }
+        });
+    }
+
+    // Logs blocked request counts and estimated bytes saved per page, then starts counting afresh
+    public void report() {
+        if (pages.isEmpty()) {
+            return;
+        }
+        long totalBlocked = 0;
+        long totalBytes = 0;
+        for (Map.Entry<String, PageStats> entry : pages.entrySet()) {
+            long blocked = entry.getValue().blocked.sum();
+            long bytes = entry.getValue().estimatedBytesSaved.sum();
+            totalBlocked += blocked;
+            totalBytes += bytes;
+            LoggerUtil.log("[Network] Blocked " + blocked + " request(s), ~" + bytes / 1024 + " KB saved on " + entry.getKey());
+        }
+        LoggerUtil.log("[Network] Total blocked: " + totalBlocked + " request(s), ~" + totalBytes / 1024 + " KB saved");
+        pages.clear();
+        inFlight.clear();
+    }
+}
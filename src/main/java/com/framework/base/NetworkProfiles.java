@@ -0,0 +1,101 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// NetworkProfiles blocks requests that are irrelevant to the booking flow (ads, analytics, media)
+// through Chrome DevTools Network.setBlockedURLs. Profiles are selected with network.profiles:
+//   block-trackers  third-party ads/analytics/tag managers
+//   block-media     images, video and web fonts
+//   custom          the URL patterns listed in network.blockedUrls
+// Any other name is read from network.profile.<name>. Patterns use CDP wildcards ("*").
+// network.throttle (fast-3g, slow-3g, offline) additionally emulates a slower connection.
+public final class NetworkProfiles {
+    private static final Map<String, List<String>> BUILT_IN_PROFILES = Map.of(
+            "block-trackers", List.of(
+                    "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                    "*googlesyndication.com*", "*googleadservices.com*", "*facebook.net*",
+                    "*connect.facebook.com*", "*hotjar.com*", "*clarity.ms*", "*criteo.com*",
+                    "*taboola.com*", "*outbrain.com*", "*adservice.google.*", "*bat.bing.com*",
+                    "*analytics.tiktok.com*", "*moengage.com*", "*branch.io*", "*newrelic.com*"),
+            "block-media", List.of(
+                    "*.png", "*.png?*", "*.jpg", "*.jpg?*", "*.jpeg", "*.jpeg?*", "*.gif", "*.gif?*",
+                    "*.webp", "*.webp?*", "*.svg", "*.svg?*", "*.ico", "*.mp4", "*.webm", "*.mp3",
+                    "*.woff", "*.woff2", "*.ttf", "*.otf"));
+
+    // Network.emulateNetworkConditions presets: latency (ms), download and upload (bytes/s)
+    private static final Map<String, long[]> THROTTLE_PRESETS = Map.of(
+            "fast-3g", new long[]{150, 1_600_000 / 8, 750_000 / 8},
+            "slow-3g", new long[]{400, 400_000 / 8, 400_000 / 8});
+
+    private NetworkProfiles() {
+    }
+
+    // URL patterns of all configured profiles
+    public static Set<String> configuredPatterns() {
+        Set<String> patterns = new LinkedHashSet<>();
+        for (String profile : ConfigReader.getList("network.profiles")) {
+            if (profile.equals("none")) {
+                continue;
+            }
+            if (profile.equals("custom")) {
+                patterns.addAll(ConfigReader.getList("network.blockedUrls"));
+            } else if (BUILT_IN_PROFILES.containsKey(profile)) {
+                patterns.addAll(BUILT_IN_PROFILES.get(profile));
+            } else {
+                List<String> custom = ConfigReader.getList("network.profile." + profile);
+                if (custom.isEmpty()) {
+                    throw new IllegalStateException("Unknown network profile '" + profile + "': define network.profile." + profile);
+                }
+                patterns.addAll(custom);
+            }
+        }
+        return patterns;
+    }
+
+    // Applies the configured profiles to a freshly created driver; returns the monitor counting blocked requests
+    static Optional<NetworkMonitor> apply(WebDriver driver) {
+        Set<String> patterns = configuredPatterns();
+        String throttle = ConfigReader.getProperty("network.throttle", "none");
+        if (patterns.isEmpty() && throttle.equals("none")) {
+            return Optional.empty();
+        }
+        Optional<DevTools> devTools = CdpSupport.devTools(driver);
+        if (devTools.isEmpty()) {
+            LoggerUtil.debug("Network profiles need Chrome DevTools; requests are not blocked for this browser");
+            return Optional.empty();
+        }
+        CdpSupport.send(devTools.get(), "Network.enable", Map.of());
+        applyThrottle(devTools.get(), throttle);
+        if (patterns.isEmpty()) {
+            return Optional.empty();
+        }
+        NetworkMonitor monitor = new NetworkMonitor();
+        monitor.attach(devTools.get());
+        CdpSupport.send(devTools.get(), "Network.setBlockedURLs", Map.of("urls", List.copyOf(patterns)));
+        LoggerUtil.debug("Blocking " + patterns.size() + " URL pattern(s) from network profiles " + ConfigReader.getList("network.profiles"));
+        return Optional.of(monitor);
+    }
+
+    private static void applyThrottle(DevTools devTools, String throttle) {
+        if (throttle.equals("none")) {
+            return;
+        }
+        boolean offline = throttle.equals("offline");
+        long[] preset = offline ? new long[]{0, -1, -1} : THROTTLE_PRESETS.get(throttle);
+        if (preset == null) {
+            throw new IllegalStateException("Unknown network.throttle '" + throttle + "', expected one of none, offline, " + THROTTLE_PRESETS.keySet());
+        }
+        CdpSupport.send(devTools, "Network.emulateNetworkConditions", Map.of(
+                "offline", offline, "latency", preset[0], "downloadThroughput", preset[1], "uploadThroughput", preset[2]));
+        LoggerUtil.debug("Throttling network to " + throttle);
+    }
+}
@@ -0,0 +1,67 @@
+package com.framework.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.PageFactory;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+// PageWiring keeps the per-instance setup of BasePage cheap, since pages and dialogs are constructed
+// over and over during a flow:
+//   - whether a page class has fields PageFactory would decorate (WebElement fields, or Lists annotated
+//     with @FindBy/@FindBys/@FindAll) is worked out once per class; classes without any skip initElements
+//   - the WaitEngine of a driver is shared by all pages built for it on the same thread, instead of
+//     allocating a new one for every page; DriverFactory clears it when the thread gives up its driver
+final class PageWiring {
+    private static final ClassValue<Boolean> NEEDS_PAGE_FACTORY = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (isDecorated(field)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+    // WaitEngine of the driver last used on this thread; compared by identity, so decorated drivers need no equals()
+    private static final ThreadLocal<WaitEngine> threadWaitEngine = new ThreadLocal<>();
+
+    private PageWiring() {
+    }
+
+    // Mirrors the fields PageFactory's DefaultFieldDecorator would proxy
+    private static boolean isDecorated(Field field) {
+        if (WebElement.class.isAssignableFrom(field.getType())) {
+            return true;
+        }
+        return List.class.isAssignableFrom(field.getType())
+                && (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class));
+    }
+
+    static void initElements(WebDriver driver, Object page) {
+        if (NEEDS_PAGE_FACTORY.get(page.getClass())) {
+            PageFactory.initElements(driver, page);
+        }
+    }
+
+    static WaitEngine waitEngine(WebDriver driver) {
+        WaitEngine waitEngine = threadWaitEngine.get();
+        if (waitEngine == null || waitEngine.getDriver() != driver) {
+            waitEngine = new WaitEngine(driver);
+            threadWaitEngine.set(waitEngine);
+        }
+        return waitEngine;
+    }
+
+    // Drops the current thread's WaitEngine, so a released or quit driver is not kept reachable
+    static void clear() {
+        threadWaitEngine.remove();
+    }
+}
@@ -0,0 +1,230 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import com.framework.utils.TestContext;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// ScreencastRecorder keeps the last seconds of a Chrome session as failure evidence (recorder.enabled).
+// DriverFactory starts a CDP Page.startScreencast on every new session: Chrome pushes low-resolution
+// JPEG frames (recorder.maxWidth/maxHeight, recorder.quality) only when the page changes, each frame is
+// acknowledged and kept in an in-memory ring buffer. The buffer drops its oldest frames beyond
+// recorder.seconds, recorder.maxFrames or recorder.maxBytes, which caps memory per session.
+// Nothing is written while tests pass; when a session is released after a failure, the buffer is
+// encoded into an animated GIF and attached to the Allure report.
+// Recorders are registered per browser session and stopped by QuitListener when the session quits.
+public class ScreencastRecorder {
+    private static final Duration WINDOW = ConfigReader.getDuration("recorder.seconds", Duration.ofSeconds(20));
+    private static final int MAX_FRAMES = ConfigReader.getInt("recorder.maxFrames", 150);
+    private static final long MAX_BYTES = ConfigReader.getLong("recorder.maxBytes", 8L * 1024 * 1024);
+    // Longest a single frame is shown in the GIF; Chrome sends nothing while the page is static
+    private static final long MAX_FRAME_DELAY_MILLIS = 2_000;
+    // CDP commands are not sent from the event thread that delivers the frames
+    private static final ExecutorService acknowledger = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "screencast-ack");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Keyed by the undecorated driver, which is what driver listeners receive
+    private static final Map<WebDriver, ScreencastRecorder> recorders = new ConcurrentHashMap<>();
+
+    private final DevTools devTools;
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private long bufferedBytes;
+
+    private record Frame(long timestampMillis, byte[] jpeg) {
+    }
+
+    private ScreencastRecorder(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    // Starts recording when recorder.enabled is set and the driver offers DevTools
+    static void start(WebDriver driver) {
+        if (!ConfigReader.getBoolean("recorder.enabled", false)) {
+            return;
+        }
+        Optional<DevTools> devTools = CdpSupport.devTools(driver);
+        if (devTools.isEmpty()) {
+            LoggerUtil.debug("recorder.enabled needs Chrome DevTools; no failure video for this session");
+            return;
+        }
+        ScreencastRecorder recorder = new ScreencastRecorder(devTools.get());
+        recorder.attach();
+        recorders.put(driver, recorder);
+    }
+
+    // The recorder of a session, looked up through the decorated driver handed to tests
+    static Optional<ScreencastRecorder> forDriver(WebDriver driver) {
+        WebDriver raw = driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+        return Optional.ofNullable(raw == null ? null : recorders.get(raw));
+    }
+
+    private void attach() {
+        devTools.addListener(CdpSupport.event("Page.screencastFrame"), event -> {
+            Object sessionId = event.get("sessionId");
+            acknowledger.execute(() -> {
+                try {
+                    CdpSupport.send(devTools, "Page.screencastFrameAck", Map.of("sessionId", sessionId));
+                } catch (RuntimeException e) {
+                    LoggerUtil.debug(() -> "[Screencast] Frame acknowledgement failed: " + e.getMessage());
+                }
+            });
+            @SuppressWarnings("unchecked")
+            Map<String, Object> metadata = (Map<String, Object>) event.get("metadata");
+            Object timestamp = metadata == null ? null : metadata.get("timestamp");
+            long millis = timestamp instanceof Number seconds ? Math.round(seconds.doubleValue() * 1000) : System.currentTimeMillis();
+            add(new Frame(millis, Base64.getDecoder().decode(String.valueOf(event.get("data")))));
+        });
+        CdpSupport.send(devTools, "Page.startScreencast", Map.of(
+                "format", "jpeg",
+                "quality", ConfigReader.getInt("recorder.quality", 40),
+                "maxWidth", ConfigReader.getInt("recorder.maxWidth", 640),
+                "maxHeight", ConfigReader.getInt("recorder.maxHeight", 360),
+                "everyNthFrame", ConfigReader.getInt("recorder.everyNthFrame", 1)));
+    }
+
+    private synchronized void add(Frame frame) {
+        frames.addLast(frame);
+        bufferedBytes += frame.jpeg().length;
+        long oldestAllowed = frame.timestampMillis() - WINDOW.toMillis();
+        while (frames.size() > 1 && (frames.size() > MAX_FRAMES || bufferedBytes > MAX_BYTES
+                || frames.peekFirst().timestampMillis() < oldestAllowed)) {
+            bufferedBytes -= frames.removeFirst().jpeg().length;
+        }
+    }
+
+    // Drops the frames of the previous lease, so a failure video only shows the failing test
+    synchronized void clear() {
+        frames.clear();
+        bufferedBytes = 0;
+    }
+
+    // Attaches the buffered frames as an animated GIF to the current Allure test
+    void attachToReport(String name) {
+        List<Frame> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(frames);
+        }
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] gif = encodeGif(snapshot);
+            Allure.addAttachment(name, "image/gif", new ByteArrayInputStream(gif), "gif");
+            TestContext.current().addAttachment(name);
+            LoggerUtil.debug("[Screencast] Attached " + snapshot.size() + " frame(s), " + gif.length / 1024 + " KB, encoded in "
+                    + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms");
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.debug("[Screencast] Unable to encode failure video: " + e.getMessage());
+        }
+    }
+
+    private void stop() {
+        try {
+            CdpSupport.send(devTools, "Page.stopScreencast", Map.of());
+        } catch (RuntimeException e) {
+            LoggerUtil.debug("[Screencast] Unable to stop screencast: " + e.getMessage());
+        }
+        clear();
+    }
+
+    // Driver listener that stops and forgets a session's recorder before the session quits
+    public static class QuitListener implements WebDriverListener {
+        @Override
+        public void beforeQuit(WebDriver driver) {
+            ScreencastRecorder recorder = recorders.remove(driver);
+            if (recorder != null) {
+                recorder.stop();
+            }
+        }
+    }
+
+    // Each frame is shown until the next one arrived; the last one for a second
+    private static byte[] encodeGif(List<Frame> frames) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < frames.size(); i++) {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(frames.get(i).jpeg()));
+                if (image == null) {
+                    continue;
+                }
+                long delayMillis = i + 1 < frames.size()
+                        ? frames.get(i + 1).timestampMillis() - frames.get(i).timestampMillis()
+                        : 1_000;
+                delayMillis = Math.max(20, Math.min(MAX_FRAME_DELAY_MILLIS, delayMillis));
+                writer.writeToSequence(new IIOImage(image, null, frameMetadata(writer, image, delayMillis, i == 0)), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static IIOMetadata frameMetadata(ImageWriter writer, BufferedImage image, long delayMillis, boolean first) throws IOException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), null);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", String.valueOf(delayMillis / 10));
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (first) {
+            // NETSCAPE2.0 extension: loop forever
+            IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[]{1, 0, 0});
+            child(root, "ApplicationExtensions").appendChild(loop);
+        }
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeName().equals(name)) {
+                return (IIOMetadataNode) node;
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+}
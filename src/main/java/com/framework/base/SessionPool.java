@@ -0,0 +1,220 @@
+package com.framework.base;
+
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// SessionPool keeps a bounded set of pre-warmed browser sessions that test classes lease and return.
+// Returned sessions are reset (cookies, storage, extra windows) and reused until they fail or hit maxUses,
+// so the expensive browser launch is paid once per pooled session instead of once per test class.
+public class SessionPool {
+    private final Supplier<WebDriver> driverSupplier;
+    private final int maxSize;
+    private final int maxUses;
+    private final long leaseTimeoutMillis;
+    private final Semaphore capacity;
+    private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger sessionIds = new AtomicInteger();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile boolean closed = false;
+
+    public SessionPool(Supplier<WebDriver> driverSupplier, int maxSize, int warmup, int maxUses, long leaseTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Session pool size must be at least 1, was " + maxSize);
+        }
+        this.driverSupplier = driverSupplier;
+        this.maxSize = maxSize;
+        this.maxUses = Math.max(1, maxUses);
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.capacity = new Semaphore(maxSize, true);
+        prewarm(Math.min(warmup, maxSize));
+    }
+
+    // A session handed out by the pool; return it with SessionPool.release
+    public static final class PooledSession {
+        private final int id;
+        private final WebDriver driver;
+        private int useCount = 0;
+
+        private PooledSession(int id, WebDriver driver) {
+            this.id = id;
+            this.driver = driver;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        public int getUseCount() {
+            return useCount;
+        }
+    }
+
+    // Launches sessions in parallel so the first lessees do not pay the cold start
+    private void prewarm(int count) {
+        if (count <= 0) {
+            return;
+        }
+        LoggerUtil.debug("Pre-warming " + count + " browser session(s)");
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<PooledSession>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(this::newSession));
+            }
+            for (Future<PooledSession> future : futures) {
+                try {
+                    idle.offer(future.get());
+                } catch (Exception e) {
+                    LoggerUtil.debug("Pre-warming a browser session failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private PooledSession newSession() {
+        long start = System.nanoTime();
+        PooledSession session = new PooledSession(sessionIds.incrementAndGet(), driverSupplier.get());
+        LoggerUtil.debug("Started browser session #" + session.id + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        return session;
+    }
+
+    // Leases a session, waiting up to the lease timeout for one to become free
+    public PooledSession lease() {
+        if (closed) {
+            throw new IllegalStateException("Session pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!capacity.tryAcquire(leaseTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + leaseTimeoutMillis + " ms waiting for a free browser session (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+        long waitNanos = System.nanoTime() - start;
+        recordWait(waitNanos);
+
+        PooledSession session;
+        try {
+            session = idle.pollFirst();
+            if (session == null) {
+                session = newSession();
+            }
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        session.useCount++;
+        LoggerUtil.debug("Leased browser session #" + session.id + " (use " + session.useCount + "/" + maxUses + ") after waiting " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms");
+        return session;
+    }
+
+    // Returns a session to the pool; failed or worn-out sessions are quit instead of reused
+    public void release(PooledSession session, boolean failed) {
+        if (session == null) {
+            return;
+        }
+        try {
+            if (closed || failed || session.useCount >= maxUses || !reset(session)) {
+                evict(session, failed ? "test failure" : closed ? "pool closed" : session.useCount >= maxUses ? "max uses reached" : "reset failed");
+            } else {
+                idle.offerFirst(session);
+            }
+        } finally {
+            capacity.release();
+        }
+    }
+
+    // Quits a session without returning it to the pool
+    public void discard(PooledSession session) {
+        if (session == null) {
+            return;
+        }
+        try {
+            evict(session, "discarded");
+        } finally {
+            capacity.release();
+        }
+    }
+
+    // Clears cookies, web storage and extra windows so the next lessee starts from a clean session
+    private boolean reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String keep = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            LoggerUtil.debug("Resetting browser session #" + session.id + " failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void evict(PooledSession session, String reason) {
+        LoggerUtil.debug("Evicting browser session #" + session.id + " after " + session.useCount + " use(s): " + reason);
+        try {
+            session.driver.quit();
+        } catch (Exception e) {
+            LoggerUtil.debug("Quitting browser session #" + session.id + " failed: " + e.getMessage());
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        leases.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    // Average and maximum time lessees spent waiting for a free session
+    public String getLeaseWaitSummary() {
+        long count = leases.get();
+        long avgMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count);
+        return String.format("leases=%d, avgWait=%d ms, maxWait=%d ms, idle=%d, size=%d",
+                count, avgMillis, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()), idle.size(), maxSize);
+    }
+
+    // Quits every idle session; leased sessions are quit when they are released
+    public void shutdown() {
+        closed = true;
+        LoggerUtil.debug("Shutting down session pool: " + getLeaseWaitSummary());
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            evict(session, "pool shutdown");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// SessionState caches the cookies and localStorage of a prepared site state (login modal dismissed,
+// INR website selected) in <history.dir>/session-state.json, so new browser sessions can start from
+// it instead of clicking through the dashboard dialogs again.
+//   restore()  whenever DriverFactory hands out a session, i.e. also after SessionPool reset a reused one:
+//              loads the file, checks it is younger than session.ttl, was saved for the configured
+//              baseUrl and still has unexpired cookies, then opens session.bootstrapPath on the site's
+//              origin (cookies can only be set for the page's domain) and applies it. It runs on the
+//              decorated driver, so the bootstrap navigation is seen by the breaker and NavigationTracker
+//   save()     called by page objects once they had to prepare the state through the UI
+// Page objects still check the page itself: when a restored state did not take, they go through the
+// UI path and save the fresh state. wasRestored() tells them whether the last hand-out of a session
+// applied a cached state, e.g. to wait longer for dialogs only a fresh session shows. Disable with
+// session.cache=false.
+public final class SessionState {
+    private static final Json JSON = new Json();
+    // Outcome of the last restore per session, keyed by the undecorated driver; weak, so quit sessions drop out
+    private static final Map<WebDriver, Boolean> restored = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SessionState() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("session.cache", true);
+    }
+
+    private static Path file() {
+        return Paths.get(ConfigReader.getProperty("history.dir", ".test-history"), "session-state.json");
+    }
+
+    // Whether the cached state was applied when the session was last handed out
+    public static boolean wasRestored(WebDriver driver) {
+        return Boolean.TRUE.equals(restored.get(unwrap(driver)));
+    }
+
+    // Applies the cached state to a driver with a clean session; returns false when there is no usable state
+    static boolean restore(WebDriver driver) {
+        boolean applied = apply(driver);
+        restored.put(unwrap(driver), applied);
+        return applied;
+    }
+
+    private static boolean apply(WebDriver driver) {
+        if (!isEnabled()) {
+            return false;
+        }
+        Map<String, Object> state = load();
+        String baseUrl = ConfigReader.getProperty("baseUrl");
+        String stale = staleReason(state, baseUrl);
+        if (stale != null) {
+            LoggerUtil.debug("[Session] Not restoring cached session state: " + stale);
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            driver.get(origin(baseUrl) + ConfigReader.getProperty("session.bootstrapPath", "/robots.txt"));
+            int cookies = 0;
+            for (Object raw : (List<?>) state.get("cookies")) {
+                Cookie cookie = toCookie((Map<?, ?>) raw);
+                if (cookie != null) {
+                    driver.manage().addCookie(cookie);
+                    cookies++;
+                }
+            }
+            Map<?, ?> storage = (Map<?, ?>) state.getOrDefault("localStorage", Map.of());
+            ((JavascriptExecutor) driver).executeScript(
+                    "for (const [key, value] of Object.entries(arguments[0])) { localStorage.setItem(key, value); }", storage);
+            LoggerUtil.log("[Session] Restored " + cookies + " cookie(s) and " + storage.size() + " localStorage item(s) saved at "
+                    + state.get("savedAt") + " in " + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms");
+            return true;
+        } catch (RuntimeException e) {
+            LoggerUtil.debug("[Session] Unable to restore cached session state: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Saves the cookies and localStorage of the driver's current page as the cached state
+    public static synchronized void save(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(cookie.toJson());
+        }
+        Object storage = ((JavascriptExecutor) driver).executeScript("return Object.assign({}, localStorage);");
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("savedAt", Instant.now().toString());
+        state.put("baseUrl", ConfigReader.getProperty("baseUrl"));
+        state.put("cookies", cookies);
+        state.put("localStorage", storage instanceof Map ? storage : Map.of());
+
+        Path file = file();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "session-state", ".tmp");
+            Files.writeString(temp, JSON.toJson(state), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LoggerUtil.log("[Session] Saved session state with " + cookies.size() + " cookie(s) to " + file);
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to save session state " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> load() {
+        Path file = file();
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return JSON.toType(reader, Json.MAP_TYPE);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.debug("Ignoring unreadable session state " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Returns why the cached state cannot be used, or null when it is valid
+    private static String staleReason(Map<String, Object> state, String baseUrl) {
+        if (state == null) {
+            return "no cached state";
+        }
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return "baseUrl is not set";
+        }
+        if (!baseUrl.equals(state.get("baseUrl"))) {
+            return "saved for " + state.get("baseUrl") + ", not " + baseUrl;
+        }
+        Instant savedAt;
+        try {
+            savedAt = Instant.parse(String.valueOf(state.get("savedAt")));
+        } catch (RuntimeException e) {
+            return "no save time";
+        }
+        Duration ttl = ConfigReader.getDuration("session.ttl", Duration.ofHours(12));
+        if (savedAt.plus(ttl).isBefore(Instant.now())) {
+            return "older than session.ttl (" + ttl + ")";
+        }
+        if (!(state.get("cookies") instanceof List<?> cookies)
+                || cookies.stream().noneMatch(raw -> raw instanceof Map<?, ?> map && toCookie(map) != null)) {
+            return "all cookies expired";
+        }
+        return null;
+    }
+
+    // Rebuilds a cookie from its JSON form; expired cookies are dropped (null)
+    private static Cookie toCookie(Map<?, ?> json) {
+        Object expiry = json.get("expiry");
+        Date expiresAt = expiry instanceof Number seconds ? new Date(seconds.longValue() * 1000) : null;
+        if (expiresAt != null && expiresAt.before(new Date())) {
+            return null;
+        }
+        Cookie.Builder builder = new Cookie.Builder(String.valueOf(json.get("name")), String.valueOf(json.get("value")))
+                .path(json.get("path") instanceof String path ? path : "/")
+                .isSecure(Boolean.TRUE.equals(json.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(json.get("httpOnly")))
+                .expiresOn(expiresAt);
+        if (json.get("domain") instanceof String domain) {
+            builder.domain(domain);
+        }
+        if (json.get("sameSite") instanceof String sameSite) {
+            builder.sameSite(sameSite);
+        }
+        return builder.build();
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        return driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
@@ -0,0 +1,187 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.SkipException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+// SiteCircuitBreaker stops the suite from spending browser time on a site that is down or degraded.
+// Navigations (driver.get) to pages of the baseUrl origin and waits the caller marks as required (the
+// readiness gates of pages) are counted: a failure or timeout adds to the count, a success resets it.
+// Optional waits, visibility probes and other expected misses never count, and neither do navigations
+// elsewhere (about:blank resets of pooled sessions) or to session.bootstrapPath, a static file the site
+// serves even when its pages are down.
+//   CLOSED     normal operation; breaker.threshold consecutive failures trip it OPEN
+//   OPEN       sessions and waits are refused with a SkipException, so the remaining tests are
+//              skipped with the reason instead of each running into its own timeouts
+//   HALF_OPEN  after breaker.cooldown an HTTP probe of baseUrl decides: a healthy answer lets tests
+//              through again and the next success closes the breaker, the next failure re-opens it.
+//              One thread runs the probe outside the lock; the others are skipped meanwhile instead of
+//              queueing behind it
+public final class SiteCircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("breaker.enabled", true);
+    private static final int THRESHOLD = ConfigReader.getInt("breaker.threshold", 5);
+    private static final Duration COOLDOWN = ConfigReader.getDuration("breaker.cooldown", Duration.ofSeconds(60));
+    private static final Duration PROBE_TIMEOUT = ConfigReader.getDuration("breaker.probeTimeout", Duration.ofSeconds(10));
+
+    private static State state = State.CLOSED;
+    private static int consecutiveFailures;
+    private static long openedAtNanos;
+    private static String lastFailure = "";
+    private static int refused;
+    private static boolean probing;
+
+    private SiteCircuitBreaker() {
+    }
+
+    public static synchronized State getState() {
+        return state;
+    }
+
+    // Throws a SkipException when the breaker is open; probes the site once the cooldown has passed
+    public static void checkAvailable(String action) {
+        if (!ENABLED) {
+            return;
+        }
+        boolean probeNow = false;
+        synchronized (SiteCircuitBreaker.class) {
+            if (state != State.OPEN) {
+                return;
+            }
+            if (!probing && System.nanoTime() - openedAtNanos >= COOLDOWN.toNanos()) {
+                probing = true;
+                probeNow = true;
+            }
+        }
+        if (probeNow) {
+            String probe = null;
+            try {
+                probe = probe();
+            } finally {
+                synchronized (SiteCircuitBreaker.class) {
+                    probing = false;
+                    if (probe == null) {
+                        state = State.HALF_OPEN;
+                        LoggerUtil.log("[Breaker] Site probe healthy, half-open: letting tests through again");
+                    } else {
+                        openedAtNanos = System.nanoTime();
+                        lastFailure = probe;
+                        LoggerUtil.log("[Breaker] Site probe failed, staying open: " + probe);
+                    }
+                }
+            }
+            if (probe == null) {
+                return;
+            }
+        }
+        refuse(action);
+    }
+
+    private static void refuse(String action) {
+        String reason;
+        synchronized (SiteCircuitBreaker.class) {
+            refused++;
+            String next = probing
+                    ? "probe in progress"
+                    : "next probe in " + Math.max(0, Duration.ofNanos(COOLDOWN.toNanos() - (System.nanoTime() - openedAtNanos)).toSeconds()) + " s";
+            reason = "Site circuit breaker is open after " + consecutiveFailures + " consecutive failures (last: " + lastFailure
+                    + "); " + next + ". Skipped: " + action;
+        }
+        LoggerUtil.debug(reason);
+        throw new SkipException(reason);
+    }
+
+    public static synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            LoggerUtil.log("[Breaker] Site recovered, circuit closed (" + refused + " actions were skipped while open)");
+            refused = 0;
+        }
+    }
+
+    public static synchronized void recordFailure(String failure) {
+        if (!ENABLED) {
+            return;
+        }
+        consecutiveFailures++;
+        lastFailure = failure;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= THRESHOLD)) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            LoggerUtil.log("[Breaker] Circuit opened after " + consecutiveFailures + " consecutive failures, last: " + failure);
+        }
+    }
+
+    // Returns null when baseUrl answers below 500 within breaker.probeTimeout, otherwise the problem.
+    // Replayed traffic never reaches the site, so there is nothing to probe in replay mode.
+    private static String probe() {
+        if ("replay".equalsIgnoreCase(ConfigReader.getProperty("network.mode", "live"))) {
+            return null;
+        }
+        String url = ConfigReader.getProperty("baseUrl");
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(PROBE_TIMEOUT)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(PROBE_TIMEOUT).GET().build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 500 ? null : "probe of " + url + " answered HTTP " + status;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "probe of " + url + " interrupted";
+        } catch (Exception e) {
+            return "probe of " + url + " failed: " + e;
+        }
+    }
+
+    // Whether a navigation to the url says something about the site's health (see the class comment).
+    // baseUrl is read per call, since benchmarks point it at a local fixture site with ConfigReader.reload
+    static boolean isSitePage(String url) {
+        URI site = parse(ConfigReader.getProperty("baseUrl"));
+        URI target = parse(url);
+        if (site == null || target == null || target.getScheme() == null || target.getRawAuthority() == null) {
+            return false;
+        }
+        return target.getScheme().equalsIgnoreCase(site.getScheme())
+                && target.getRawAuthority().equalsIgnoreCase(site.getRawAuthority())
+                && !ConfigReader.getProperty("session.bootstrapPath", "/robots.txt").equals(target.getRawPath());
+    }
+
+    private static URI parse(String url) {
+        try {
+            return url == null ? null : URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Driver listener feeding the outcome of every driver.get of a site page into the breaker
+    public static class NavigationListener implements WebDriverListener {
+        @Override
+        public void afterGet(WebDriver driver, String url) {
+            if (isSitePage(url)) {
+                recordSuccess();
+            }
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            if ("get".equals(method.getName()) && target instanceof WebDriver && isSitePage(String.valueOf(args[0]))) {
+                recordFailure("navigation to " + args[0] + ": " + e.getTargetException().getClass().getSimpleName());
+            }
+        }
+    }
+}
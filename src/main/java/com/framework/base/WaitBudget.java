@@ -0,0 +1,138 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import com.framework.utils.TestContext;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// WaitBudget decides the timeout of every page object wait:
+//   1. the nominal timeout of the wait (wait.timeout, wait.visibleTimeout, ...), as an upper bound
+//   2. with wait.adaptive=true, narrowed to the locator's learned p99 wait time x wait.adaptiveFactor, but
+//      never below wait.minTimeout nor below wait.adaptiveFloor x the nominal timeout
+//   3. never more than what is left of the running test's deadline (test.budget, kept in TestContext)
+// Once the deadline is spent the wait fails the test immediately instead of timing out step by step.
+// Wait times are learned per locator and blended into <history.dir>/wait-p99.json at suite end, like
+// test durations in TestDurationStore. A wait that timed out is learned at its nominal timeout, so slow
+// runs widen the learned p99 again instead of only fast runs tightening it.
+public final class WaitBudget {
+    private static final Json JSON = new Json();
+    private static final boolean ADAPTIVE = ConfigReader.getBoolean("wait.adaptive", false);
+    private static final double ADAPTIVE_FACTOR = ConfigReader.getDouble("wait.adaptiveFactor", 3.0);
+    private static final Duration MIN_TIMEOUT = ConfigReader.getDuration("wait.minTimeout", Duration.ofSeconds(2));
+    private static final double ADAPTIVE_FLOOR = ConfigReader.getDouble("wait.adaptiveFloor", 0.5);
+    private static final double SMOOTHING = ConfigReader.getDouble("history.smoothing", 0.3);
+    private static final Map<String, Histogram> measured = new ConcurrentHashMap<>();
+    private static volatile Map<String, Long> learnedP99 = load();
+
+    private WaitBudget() {
+    }
+
+    private static Path file() {
+        return Paths.get(ConfigReader.getProperty("history.dir", ".test-history"), "wait-p99.json");
+    }
+
+    // Timeout for one wait; key identifies the locator for adaptive timeouts (null: budget only)
+    public static Duration timeoutFor(String key, Duration nominal, String description) {
+        Duration timeout = nominal;
+        Long p99 = key == null || !ADAPTIVE ? null : learnedP99.get(key);
+        if (p99 != null) {
+            Duration adaptive = Duration.ofMillis(Math.round(p99 * ADAPTIVE_FACTOR));
+            Duration floor = Duration.ofMillis(Math.round(nominal.toMillis() * ADAPTIVE_FLOOR));
+            if (floor.compareTo(MIN_TIMEOUT) < 0) {
+                floor = MIN_TIMEOUT;
+            }
+            if (adaptive.compareTo(floor) < 0) {
+                adaptive = floor;
+            }
+            if (adaptive.compareTo(timeout) < 0) {
+                timeout = adaptive;
+            }
+        }
+
+        TestContext context = TestContext.current();
+        if (context.hasDeadline()) {
+            Duration remaining = context.remaining();
+            if (remaining.isZero()) {
+                // AssertionError, so callers that tolerate a TimeoutException still stop here
+                LoggerUtil.error("Test budget of " + context.getBudget().toSeconds() + " s is spent, failing fast before: " + description);
+            }
+            if (remaining.compareTo(timeout) < 0) {
+                timeout = remaining;
+            }
+        }
+        return timeout;
+    }
+
+    // Records how long a successful wait took for the locator
+    public static void recordSuccess(String key, long startNanos) {
+        record(key, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    // Records a timed-out wait for the locator at its nominal timeout
+    public static void recordTimeout(String key, Duration nominal) {
+        record(key, nominal.toMillis());
+    }
+
+    private static void record(String key, long millis) {
+        measured.computeIfAbsent(key, k -> new ConcurrentHistogram(3)).recordValue(Math.max(1, millis));
+    }
+
+    private static Map<String, Long> load() {
+        Path file = file();
+        Map<String, Long> values = new HashMap<>();
+        if (!Files.exists(file)) {
+            return values;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Object> raw = JSON.toType(reader, Json.MAP_TYPE);
+            raw.forEach((key, value) -> {
+                if (value instanceof Number number) {
+                    values.put(key, number.longValue());
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.debug("Ignoring unreadable wait history " + file + ": " + e.getMessage());
+        }
+        return values;
+    }
+
+    // Blends this run's p99 per locator into the history file
+    public static synchronized void save() {
+        if (measured.isEmpty()) {
+            return;
+        }
+        Map<String, Long> merged = new TreeMap<>(load());
+        measured.forEach((key, histogram) -> {
+            long p99 = histogram.copy().getValueAtPercentile(99);
+            Long previous = merged.get(key);
+            merged.put(key, previous == null ? p99 : Math.round(previous * (1 - SMOOTHING) + p99 * SMOOTHING));
+        });
+        measured.clear();
+
+        Path file = file();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "wait-p99", ".tmp");
+            Files.writeString(temp, JSON.toJson(merged), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to save wait history " + file + ": " + e.getMessage());
+        }
+        learnedP99 = new HashMap<>(merged);
+    }
+}
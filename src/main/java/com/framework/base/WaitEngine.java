@@ -0,0 +1,231 @@
+package com.framework.base;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// WaitEngine resolves waits as soon as their condition holds instead of sleeping for a fixed time.
+// DOM waits run inside the page: a MutationObserver plus fetch/XHR instrumentation tracks the last
+// DOM change and the in-flight requests, and a single async script returns once the page has been
+// quiet for the requested period. Only same-origin requests younger than wait.requestMaxAge hold a
+// settle back, so analytics beacons, polling and long-lived third-party requests do not.
+// Every wait records how long it actually took, per description; descriptions often carry test data
+// (stations, dates, options), so after wait.statisticsMaxKeys distinct ones new waits share one bucket.
+public class WaitEngine {
+    public static final long DEFAULT_QUIET_MILLIS = ConfigReader.getDuration("wait.quietPeriod", Duration.ofMillis(300)).toMillis();
+    public static final Duration DEFAULT_TIMEOUT = ConfigReader.getDuration("wait.settleTimeout", Duration.ofSeconds(10));
+    // Cap for settles that only precede a quick check, e.g. whether an optional element is shown
+    public static final Duration QUICK_TIMEOUT = ConfigReader.getDuration("wait.quickSettleTimeout", Duration.ofSeconds(2));
+    private static final long REQUEST_MAX_AGE_MILLIS = ConfigReader.getDuration("wait.requestMaxAge", Duration.ofSeconds(2)).toMillis();
+    private static final Duration POLLING_INTERVAL = ConfigReader.getDuration("wait.pollingInterval", Duration.ofMillis(100));
+    private static final int MAX_STATISTICS_KEYS = ConfigReader.getInt("wait.statisticsMaxKeys", 500);
+    private static final String OTHER_WAITS = "(other waits)";
+    private static final Map<String, LongSummaryStatistics> waitStatistics = new ConcurrentHashMap<>();
+
+    // Installs the mutation/network tracker once per document and exposes a signature helper
+    private static final String TRACKER_SCRIPT = """
+            var w = window;
+            if (!w.__fwWait) {
+              var state = w.__fwWait = { lastMutation: Date.now(), requests: {}, nextId: 0 };
+              var touch = function () { state.lastMutation = Date.now(); };
+              new MutationObserver(touch).observe(document.documentElement,
+                  { childList: true, subtree: true, attributes: true, characterData: true });
+              // Only same-origin requests are tracked, keyed by id with their start time
+              var track = function (url) {
+                try {
+                  if (new URL(String(url), location.href).origin !== location.origin) { return 0; }
+                } catch (e) {
+                  return 0;
+                }
+                var id = ++state.nextId;
+                state.requests[id] = Date.now();
+                return id;
+              };
+              var untrack = function (id) {
+                if (id) { delete state.requests[id]; touch(); }
+              };
+              if (w.fetch) {
+                var originalFetch = w.fetch;
+                w.fetch = function (resource) {
+                  var id = track(resource && resource.url ? resource.url : resource);
+                  return originalFetch.apply(this, arguments).finally(function () { untrack(id); });
+                };
+              }
+              var originalOpen = XMLHttpRequest.prototype.open;
+              XMLHttpRequest.prototype.open = function (method, url) {
+                this.__fwUrl = url;
+                return originalOpen.apply(this, arguments);
+              };
+              var originalSend = XMLHttpRequest.prototype.send;
+              XMLHttpRequest.prototype.send = function () {
+                var id = track(this.__fwUrl);
+                this.addEventListener('loadend', function () { untrack(id); });
+                return originalSend.apply(this, arguments);
+              };
+              // True while a tracked request younger than maxAgeMs is in flight
+              state.busy = function (maxAgeMs) {
+                var now = Date.now();
+                for (var id in state.requests) {
+                  if (now - state.requests[id] < maxAgeMs) { return true; }
+                }
+                return false;
+              };
+              state.signature = function (xpath) {
+                var nodes = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                var hash = 0;
+                for (var i = 0; i < nodes.snapshotLength; i++) {
+                  var text = nodes.snapshotItem(i).textContent;
+                  for (var j = 0; j < text.length; j++) { hash = ((hash << 5) - hash + text.charCodeAt(j)) | 0; }
+                }
+                return nodes.snapshotLength + ':' + hash;
+              };
+            }
+            """;
+
+    private static final String SIGNATURE_SCRIPT = TRACKER_SCRIPT + "return w.__fwWait.signature(arguments[0]);";
+
+    // Resolves once the DOM has been quiet (and no recent same-origin requests are in flight) for quietMs.
+    // With a watched xpath, it resolves once the list has changed and settled, or once nothing
+    // has happened for quietMs after the call started.
+    private static final String SETTLE_SCRIPT = TRACKER_SCRIPT + """
+            var xpath = arguments[0], before = arguments[1], quietMs = arguments[2], timeoutMs = arguments[3];
+            var requestMaxAgeMs = arguments[4];
+            var done = arguments[arguments.length - 1];
+            var state = w.__fwWait, start = Date.now();
+            var timer = setInterval(function () {
+              var now = Date.now();
+              var changed = xpath ? state.signature(xpath) !== before : false;
+              var quiet = now - state.lastMutation >= quietMs && !state.busy(requestMaxAgeMs);
+              var timedOut = now - start >= timeoutMs;
+              if ((quiet && (changed || !xpath || now - start >= quietMs)) || timedOut) {
+                clearInterval(timer);
+                done({ changed: changed, timedOut: timedOut && !quiet, elapsed: now - start });
+              }
+            }, 50);
+            """;
+
+    private final WebDriver driver;
+
+    public WaitEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    WebDriver getDriver() {
+        return driver;
+    }
+
+    // Waits for an ExpectedCondition with fast polling and records the time it took.
+    // While SiteCircuitBreaker is open the wait is skipped instead of timing out.
+    public <T> T until(ExpectedCondition<T> condition, Duration timeout, String description) {
+        return until(condition, timeout, description, false);
+    }
+
+    // As until; with required set, the outcome also counts for SiteCircuitBreaker (a timeout as a site
+    // failure, a success as a sign of health). Only page readiness gates should set it
+    public <T> T until(ExpectedCondition<T> condition, Duration timeout, String description, boolean required) {
+        SiteCircuitBreaker.checkAvailable(description);
+        long start = System.nanoTime();
+        try {
+            T result = new WebDriverWait(driver, timeout, POLLING_INTERVAL).until(condition);
+            if (required) {
+                SiteCircuitBreaker.recordSuccess();
+            }
+            return result;
+        } catch (TimeoutException e) {
+            if (required) {
+                SiteCircuitBreaker.recordFailure("timed out: " + description);
+            }
+            throw e;
+        } finally {
+            record(description, start);
+        }
+    }
+
+    // Waits until the DOM stops changing and network requests are idle
+    public boolean waitForDomToSettle(String description) {
+        return waitForDomToSettle(DEFAULT_QUIET_MILLIS, DEFAULT_TIMEOUT, description);
+    }
+
+    // Settles for at most QUICK_TIMEOUT; for checks that must stay cheap on pages that never go fully quiet
+    public boolean waitForDomToSettleBriefly(String description) {
+        return waitForDomToSettle(DEFAULT_QUIET_MILLIS, QUICK_TIMEOUT, description);
+    }
+
+    public boolean waitForDomToSettle(long quietMillis, Duration timeout, String description) {
+        return settle(null, null, quietMillis, timeout, description);
+    }
+
+    // Returns a cheap signature (count + text hash) of the nodes matched by the xpath
+    public String listSignature(String xpath) {
+        Object signature = ((JavascriptExecutor) driver).executeScript(SIGNATURE_SCRIPT, xpath);
+        return signature == null ? "" : signature.toString();
+    }
+
+    // Runs the action and waits until the list matched by the xpath has changed and settled
+    public boolean runAndWaitForListChange(String listXpath, Runnable action, String description) {
+        String before = listSignature(listXpath);
+        action.run();
+        return waitForListChange(listXpath, before, description);
+    }
+
+    public boolean waitForListChange(String listXpath, String previousSignature, String description) {
+        return settle(listXpath, previousSignature, DEFAULT_QUIET_MILLIS, DEFAULT_TIMEOUT, description);
+    }
+
+    private boolean settle(String xpath, String before, long quietMillis, Duration nominalTimeout, String description) {
+        Duration timeout = WaitBudget.timeoutFor(null, nominalTimeout, description);
+        long start = System.nanoTime();
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(SETTLE_SCRIPT, xpath, before, quietMillis, timeout.toMillis(),
+                    REQUEST_MAX_AGE_MILLIS);
+            if (result instanceof Map<?, ?> map && Boolean.TRUE.equals(map.get("timedOut"))) {
+                LoggerUtil.debug("Page did not settle within " + timeout.toMillis() + " ms: " + description);
+                return false;
+            }
+            return true;
+        } catch (TimeoutException e) {
+            LoggerUtil.debug("Script timeout while waiting for page to settle: " + description);
+            return false;
+        } finally {
+            record(description, start);
+        }
+    }
+
+    private static void record(String description, long startNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        LongSummaryStatistics stats = waitStatistics.get(description);
+        if (stats == null) {
+            String key = waitStatistics.size() < MAX_STATISTICS_KEYS ? description : OTHER_WAITS;
+            stats = waitStatistics.computeIfAbsent(key, ignored -> new LongSummaryStatistics());
+        }
+        synchronized (stats) {
+            stats.accept(millis);
+        }
+        LoggerUtil.debug(() -> "Wait resolved in " + millis + " ms: " + description);
+    }
+
+    // Snapshot of recorded wait durations (ms) keyed by wait description
+    public static Map<String, LongSummaryStatistics> getWaitStatistics() {
+        Map<String, LongSummaryStatistics> snapshot = new TreeMap<>();
+        waitStatistics.forEach((key, stats) -> {
+            synchronized (stats) {
+                LongSummaryStatistics copy = new LongSummaryStatistics();
+                copy.combine(stats);
+                snapshot.put(key, copy);
+            }
+        });
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
@@ -0,0 +1,16 @@
+package com.framework.listeners;
+
+import com.framework.utils.ActionMetrics;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+// ActionMetricsListener exports the page object action timings (JSON file plus Allure attachment)
+// when a suite finishes. Registered through META-INF/services/org.testng.ITestNGListener.
+public class ActionMetricsListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ActionMetrics.export();
+        ActionMetrics.reset();
+    }
+}
@@ -0,0 +1,21 @@
+package com.framework.listeners;
+
+import com.framework.utils.StreamingResultsWriter;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+// AllureWriterListener puts StreamingResultsWriter behind the Allure lifecycle. The Allure TestNG
+// listener reads the lifecycle once, when it is constructed, so this listener is listed first in
+// META-INF/services/org.testng.ITestNGListener; our classes precede the Allure jar on the classpath,
+// so it is instantiated first. Queued results are written out when each suite finishes.
+public class AllureWriterListener implements ISuiteListener {
+
+    public AllureWriterListener() {
+        StreamingResultsWriter.install();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        StreamingResultsWriter.flushInstalled();
+    }
+}
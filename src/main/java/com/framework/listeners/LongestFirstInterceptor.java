@@ -0,0 +1,94 @@
+package com.framework.listeners;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import com.framework.utils.ShardPlanner;
+import com.framework.utils.TestDurationStore;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.IResultMap;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// LongestFirstInterceptor hands tests to TestNG longest-processing-time-first, using the durations
+// in TestDurationStore, so the longest tests start early and do not form a tail at the end of a
+// parallel run. Units are test classes (parallel=classes/none) or methods (parallel=methods); the
+// order of methods inside a class is kept. Slots are min(threadCount, pool.size) browser sessions.
+// The predicted makespan (longest-first and original order) is logged up front and the actual one
+// when the suite finishes. Disable with schedule.longestFirst=false.
+// Runs after ShardInterceptor, so a shard reorders only its own share.
+// Registered through META-INF/services/org.testng.ITestNGListener.
+public class LongestFirstInterceptor implements IMethodInterceptor, ISuiteListener {
+    private final AtomicLong predictedMillis = new AtomicLong();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.getBoolean("schedule.longestFirst", true) || methods.size() < 2) {
+            return methods;
+        }
+        XmlTest xmlTest = context.getCurrentXmlTest();
+        XmlSuite.ParallelMode mode = xmlTest.getParallel();
+        boolean parallel = mode != null && mode != XmlSuite.ParallelMode.NONE;
+        int slots = parallel ? Math.max(1, Math.min(xmlTest.getThreadCount(), ConfigReader.getInt("pool.size", xmlTest.getThreadCount()))) : 1;
+        boolean byClass = mode != XmlSuite.ParallelMode.METHODS;
+
+        // Units in original order, each with its methods in original order
+        Map<String, List<IMethodInstance>> units = new LinkedHashMap<>();
+        Map<String, Long> weights = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            String unit = ShardInterceptor.unitOf(instance.getMethod(), byClass);
+            units.computeIfAbsent(unit, key -> new ArrayList<>()).add(instance);
+            weights.computeIfAbsent(unit, key -> TestDurationStore.estimate(instance.getMethod(), byClass));
+        }
+
+        List<Map.Entry<String, Long>> order = ShardPlanner.longestFirst(weights);
+        ShardPlanner.Plan original = ShardPlanner.listSchedule(new ArrayList<>(weights.entrySet()), slots);
+        ShardPlanner.Plan longestFirst = ShardPlanner.listSchedule(order, slots);
+
+        List<IMethodInstance> reordered = new ArrayList<>(methods.size());
+        for (Map.Entry<String, Long> unit : order) {
+            reordered.addAll(units.get(unit.getKey()));
+        }
+        predictedMillis.addAndGet(longestFirst.makespan());
+        LoggerUtil.log(String.format("[Schedule] %d unit(s) longest-first on %d slot(s): predicted makespan %.1f s (original order %.1f s)",
+                weights.size(), slots, longestFirst.makespan() / 1000.0, original.makespan() / 1000.0));
+        return reordered;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long actual = measuredMakespan(suite);
+        if (predictedMillis.get() > 0 && actual > 0) {
+            LoggerUtil.log(String.format("[Schedule] Actual makespan %.1f s, predicted %.1f s",
+                    actual / 1000.0, predictedMillis.get() / 1000.0));
+        }
+    }
+
+    // Actual makespan: first method start to last method end, so suite start-up and listeners are excluded
+    static long measuredMakespan(ISuite suite) {
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (ISuiteResult suiteResult : suite.getResults().values()) {
+            ITestContext context = suiteResult.getTestContext();
+            for (IResultMap results : List.of(context.getPassedTests(), context.getFailedTests(), context.getSkippedTests(),
+                    context.getPassedConfigurations(), context.getFailedConfigurations())) {
+                for (ITestResult result : results.getAllResults()) {
+                    first = Math.min(first, result.getStartMillis());
+                    last = Math.max(last, result.getEndMillis());
+                }
+            }
+        }
+        return first < last ? last - first : 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.framework.listeners;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.ScenarioReport;
+import org.testng.IAlterSuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// ScenarioListener supports data-driven tests:
+//   - parallel data providers get one thread per browser session (dataprovider.threadCount,
+//     defaulting to pool.size) instead of TestNG's default of 10 threads competing for the pool;
+//     a data-provider-thread-count set in the suite XML is kept unless dataprovider.threadCount is set
+//   - every data-driven invocation is written to ScenarioReport with its final status. The outcome
+//     callbacks of ITestListener run after all IInvokedMethodListener.afterInvocation calls, so the
+//     status already includes the soft assertions TestContextListener applies, whatever the order
+//     the listeners are registered in
+// Registered through META-INF/services/org.testng.ITestNGListener.
+public class ScenarioListener implements IAlterSuiteListener, ITestListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        boolean configured = ConfigReader.getProperty("dataprovider.threadCount", null) != null;
+        int threads = ConfigReader.getInt("dataprovider.threadCount", ConfigReader.getInt("pool.size", 1));
+        for (XmlSuite suite : suites) {
+            if (configured || suite.getDataProviderThreadCount() == XmlSuite.DEFAULT_DATA_PROVIDER_THREAD_COUNT) {
+                suite.setDataProviderThreadCount(threads);
+            }
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    private static void record(ITestResult testResult) {
+        if (!testResult.getMethod().isDataDriven()) {
+            return;
+        }
+        String scenario = Arrays.stream(testResult.getParameters()).map(String::valueOf).collect(Collectors.joining(", "));
+        Throwable error = testResult.getThrowable();
+        ScenarioReport.record(testResult.getMethod().getQualifiedName(), scenario, status(testResult.getStatus()),
+                testResult.getEndMillis() - testResult.getStartMillis(), error == null ? "" : error.toString());
+    }
+
+    private static String status(int status) {
+        return switch (status) {
+            case ITestResult.SUCCESS -> "PASS";
+            case ITestResult.SKIP -> "SKIP";
+            default -> "FAIL";
+        };
+    }
+}
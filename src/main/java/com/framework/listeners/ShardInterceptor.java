@@ -0,0 +1,79 @@
+package com.framework.listeners;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import com.framework.utils.ShardPlanner;
+import com.framework.utils.TestDurationStore;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// ShardInterceptor runs only this worker's share of the suite when shard.count > 1. All workers plan
+// the same split with ShardPlanner from the duration history (TestDurationStore), then each keeps the
+// units of shard.index (0-based). Units are whole test classes by default (shard.by=class), so class
+// level setup runs once per shard; shard.by=method splits individual methods instead.
+// Units without history are estimated as described in TestDurationStore.estimate.
+// Registered through META-INF/services/org.testng.ITestNGListener.
+public class ShardInterceptor implements IMethodInterceptor, ISuiteListener {
+    private volatile long predictedMillis = -1;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = ConfigReader.getInt("shard.count", 1);
+        if (shardCount <= 1 || methods.isEmpty()) {
+            return methods;
+        }
+        int shardIndex = ConfigReader.getInt("shard.index", 0);
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalStateException("shard.index must be between 0 and " + (shardCount - 1) + ", was " + shardIndex);
+        }
+        boolean byClass = !ConfigReader.getProperty("shard.by", "class").equalsIgnoreCase("method");
+
+        Map<String, Long> weights = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            weights.computeIfAbsent(unitOf(method, byClass), unit -> TestDurationStore.estimate(method, byClass));
+        }
+
+        ShardPlanner.Plan plan = ShardPlanner.plan(weights, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            LoggerUtil.debug("[Shard] " + i + "/" + shardCount + ": " + plan.shards().get(i).size()
+                    + " unit(s), predicted " + plan.loads()[i] / 1000 + " s " + plan.shards().get(i));
+        }
+        LoggerUtil.log(String.format("[Shard] Running shard %d of %d: %d of %d unit(s), predicted %.1f s; predicted imbalance %.1f%% (slowest shard %.1f s)",
+                shardIndex, shardCount, plan.shards().get(shardIndex).size(), weights.size(),
+                plan.loads()[shardIndex] / 1000.0, plan.imbalance() * 100, plan.makespan() / 1000.0));
+        predictedMillis = plan.loads()[shardIndex];
+
+        Set<String> assigned = new HashSet<>(plan.shards().get(shardIndex));
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            if (assigned.contains(unitOf(instance.getMethod(), byClass))) {
+                kept.add(instance);
+            }
+        }
+        return kept;
+    }
+
+    static String unitOf(ITestNGMethod method, boolean byClass) {
+        return byClass ? method.getRealClass().getName() : TestDurationStore.key(method);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (predictedMillis >= 0) {
+            LoggerUtil.log(String.format("[Shard] Shard %d finished in %.1f s, predicted %.1f s", ConfigReader.getInt("shard.index", 0),
+                    LongestFirstInterceptor.measuredMakespan(suite) / 1000.0, predictedMillis / 1000.0));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.framework.listeners;
+
+import com.framework.utils.AttachmentPipeline;
+import com.framework.utils.ConfigReader;
+import com.framework.utils.TestContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+
+// TestContextListener finalizes the per-thread TestContext after every test method and every
+// @After* configuration method: pending screenshots are flushed, pending soft assertions are
+// asserted and the context is cleared. Before every method it starts the method's deadline budget.
+// Soft failures raised in @Before* methods stay in the context and surface on the next test of
+// that thread. Registered for every suite through META-INF/services/org.testng.ITestNGListener.
+public class TestContextListener implements IInvokedMethodListener {
+
+    // Every test and configuration method starts with a fresh deadline budget (test.budget, 0 = unlimited)
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        TestContext.current().startDeadline(ConfigReader.getDuration("test.budget", Duration.ZERO));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        AttachmentPipeline.flush();
+
+        boolean isAfterConfiguration = method.isConfigurationMethod()
+                && (method.getTestMethod().isAfterMethodConfiguration()
+                || method.getTestMethod().isAfterClassConfiguration()
+                || method.getTestMethod().isAfterTestConfiguration()
+                || method.getTestMethod().isAfterSuiteConfiguration()
+                || method.getTestMethod().isAfterGroupsConfiguration());
+        if (!method.isTestMethod() && !isAfterConfiguration) {
+            return;
+        }
+
+        TestContext context = TestContext.end();
+        if (!context.hasFailures()) {
+            return;
+        }
+        try {
+            context.getSoftAssert().assertAll();
+        } catch (AssertionError e) {
+            if (testResult.getStatus() == ITestResult.SUCCESS) {
+                testResult.setStatus(ITestResult.FAILURE);
+                testResult.setThrowable(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.framework.listeners;
+
+import com.framework.base.WaitBudget;
+import com.framework.utils.TestDurationStore;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+// TestDurationListener measures every test and configuration method and saves the durations to
+// TestDurationStore when the suite finishes, for the shard planner of the next run. The learned
+// per-locator wait times of WaitBudget are saved at the same point.
+// Registered through META-INF/services/org.testng.ITestNGListener.
+public class TestDurationListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (testResult.getStatus() == ITestResult.SKIP) {
+            return;
+        }
+        TestDurationStore.record(TestDurationStore.key(method.getTestMethod()), testResult.getEndMillis() - testResult.getStartMillis());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestDurationStore.save();
+        WaitBudget.save();
+    }
+}
@@ -0,0 +1,126 @@
+package com.framework.utils;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ActionMetrics times page object interactions (clicks, typing, element waits, date picking and
+// page construction) into one HdrHistogram per "Page | action | description" key, in microseconds.
+// The metrics.topN slowest individual steps are kept as well. At suite end ActionMetricsListener
+// calls export(), which writes metrics.file as JSON. It is not attached to Allure: at suite end there
+// is no test to attach it to, and a synthetic test case would count towards the report's totals.
+public class ActionMetrics {
+    private static final Json JSON = new Json();
+    private static final int TOP_N = ConfigReader.getInt("metrics.topN", 10);
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    // Min-heap on duration, so the fastest of the kept steps is evicted first
+    private static final PriorityQueue<Step> slowestSteps = new PriorityQueue<>(Comparator.comparingLong(Step::micros));
+
+    private ActionMetrics() {
+    }
+
+    private record Step(String key, String thread, long micros) {
+    }
+
+    // Records one timed action of a page object
+    public static void record(Class<?> page, String action, String description, long startNanos) {
+        long micros = (System.nanoTime() - startNanos) / 1_000;
+        String key = page.getSimpleName() + " | " + action + " | " + description;
+        histograms.computeIfAbsent(key, k -> new ConcurrentHistogram(3)).recordValue(micros);
+        synchronized (slowestSteps) {
+            if (slowestSteps.size() < TOP_N) {
+                slowestSteps.add(new Step(key, Thread.currentThread().getName(), micros));
+            } else if (TOP_N > 0 && slowestSteps.peek().micros() < micros) {
+                slowestSteps.poll();
+                slowestSteps.add(new Step(key, Thread.currentThread().getName(), micros));
+            }
+        }
+    }
+
+    // Builds the report: per-key percentiles sorted by total time, then the slowest individual steps
+    public static Map<String, Object> snapshot() {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        histograms.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Histogram> e) -> e.getValue().getMean() * e.getValue().getTotalCount()).reversed())
+                .forEach(entry -> {
+                    Histogram histogram = entry.getValue().copy();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("key", entry.getKey());
+                    row.put("count", histogram.getTotalCount());
+                    row.put("totalMs", millis(histogram.getMean() * histogram.getTotalCount()));
+                    row.put("meanMs", millis(histogram.getMean()));
+                    row.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+                    row.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+                    row.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+                    row.put("maxMs", millis(histogram.getMaxValue()));
+                    actions.add(row);
+                });
+
+        List<Step> slowest;
+        synchronized (slowestSteps) {
+            slowest = new ArrayList<>(slowestSteps);
+        }
+        slowest.sort(Comparator.comparingLong(Step::micros).reversed());
+        List<Map<String, Object>> slowestRows = new ArrayList<>();
+        for (Step step : slowest) {
+            slowestRows.add(Map.of("key", step.key(), "thread", step.thread(), "durationMs", millis(step.micros())));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("actions", actions);
+        report.put("slowestSteps", slowestRows);
+        return report;
+    }
+
+    // Writes the report to metrics.file and logs the slowest steps
+    public static void export() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        Map<String, Object> report = snapshot();
+        byte[] json = JSON.toJson(report).getBytes(StandardCharsets.UTF_8);
+
+        Path file = Paths.get(ConfigReader.getProperty("metrics.file", "target/action-metrics.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, json);
+            LoggerUtil.log("[Metrics] Action timings written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to write action metrics: " + e.getMessage());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> slowest = (List<Map<String, Object>>) report.get("slowestSteps");
+        for (Map<String, Object> step : slowest) {
+            LoggerUtil.log("[Metrics] Slow step " + step.get("durationMs") + " ms: " + step.get("key"));
+        }
+    }
+
+    public static void reset() {
+        histograms.clear();
+        synchronized (slowestSteps) {
+            slowestSteps.clear();
+        }
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
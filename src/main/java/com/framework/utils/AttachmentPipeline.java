@@ -0,0 +1,192 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.WithAttachments;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// AttachmentPipeline moves screenshot processing off the test thread. The test thread only captures
+// the raw PNG bytes and reserves the attachment slot in the current Allure step; downscaling, JPEG
+// re-encoding, dedupe of identical consecutive frames and the file write run on a small background
+// pool. At most attachments.maxInFlight frames are pending at once, after which callers block
+// (backpressure). Frames of one test thread are processed in order so dedupe compares neighbours;
+// only byte-identical captures count as duplicates, since screenshots that differ in a single error
+// message are different evidence. A duplicate frame writes no file, its attachment entry is pointed
+// at the earlier frame's file instead. Frames that cannot be re-encoded are attached as the original
+// PNG, with the entry's file name and type switched to match.
+// TestContextListener calls flush() at the end of every test, before the test result is written.
+public class AttachmentPipeline {
+    private static final Logger logger = LogManager.getLogger(AttachmentPipeline.class);
+    private static final int WORKER_THREADS = ConfigReader.getInt("attachments.threads", 2);
+    private static final int MAX_IN_FLIGHT = ConfigReader.getInt("attachments.maxInFlight", 16);
+    private static final int MAX_WIDTH = ConfigReader.getInt("attachments.maxWidth", 1280);
+    private static final float JPEG_QUALITY = (float) ConfigReader.getDouble("attachments.jpegQuality", 0.7);
+    private static final long FLUSH_TIMEOUT_SECONDS = ConfigReader.getDuration("attachments.flushTimeout", Duration.ofSeconds(30)).toSeconds();
+
+    private static final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private static final ExecutorService executor = createExecutor();
+    private static final ThreadLocal<Lane> lanes = ThreadLocal.withInitial(Lane::new);
+
+    private AttachmentPipeline() {
+    }
+
+    // Per-test-thread processing chain and the last frame seen on it
+    private static final class Lane {
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        private byte[] lastPng = null;
+        private String lastSource = null;
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger threadIds = new AtomicInteger();
+        return new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "attachment-pipeline-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Queues a PNG screenshot for processing and attaches it to the current Allure step
+    public static void submitScreenshot(String name, byte[] png) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, "image/jpeg", "jpg");
+        Attachment slot = reservedSlot(lifecycle, source);
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeOriginal(lifecycle, source, slot, png);
+            return;
+        }
+        Lane lane = lanes.get();
+        lane.tail = lane.tail
+                .thenRunAsync(() -> process(lifecycle, lane, source, slot, png), executor)
+                .whenComplete((ignored, error) -> {
+                    inFlight.release();
+                    if (error != null) {
+                        logger.error("Failed to process screenshot '" + name + "': " + error.getMessage());
+                    }
+                })
+                .exceptionally(error -> null);
+    }
+
+    // Waits until every screenshot submitted by the current thread has been written
+    public static void flush() {
+        Lane lane = lanes.get();
+        try {
+            lane.tail.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.error("Timed out after " + FLUSH_TIMEOUT_SECONDS + "s flushing screenshot attachments");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Failed to flush screenshot attachments: " + e.getMessage());
+        } finally {
+            lanes.remove();
+        }
+    }
+
+    // Finds the attachment entry prepareAttachment just added to the current step or test, or null
+    private static Attachment reservedSlot(AllureLifecycle lifecycle, String source) {
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+        if (current.isEmpty()) {
+            return null;
+        }
+        AtomicReference<Attachment> slot = new AtomicReference<>();
+        Consumer<WithAttachments> find = holder -> holder.getAttachments().stream()
+                .filter(attachment -> source.equals(attachment.getSource()))
+                .findFirst()
+                .ifPresent(slot::set);
+        if (current.equals(lifecycle.getCurrentTestCase())) {
+            lifecycle.updateTestCase(find::accept);
+        } else {
+            lifecycle.updateStep(find::accept);
+        }
+        return slot.get();
+    }
+
+    private static void process(AllureLifecycle lifecycle, Lane lane, String source, Attachment slot, byte[] png) {
+        if (slot != null && lane.lastSource != null && Arrays.equals(png, lane.lastPng)) {
+            // Same frame as before: reference the file already written instead of writing it again
+            slot.setSource(lane.lastSource);
+            logger.debug("Screenshot '" + slot.getName() + "' matches the previous frame, reusing " + lane.lastSource);
+            return;
+        }
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                writeOriginal(lifecycle, source, slot, png);
+                return;
+            }
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(encodeJpeg(downscale(image))));
+            lane.lastPng = png;
+            lane.lastSource = source;
+        } catch (IOException e) {
+            logger.error("Failed to re-encode screenshot, attaching original: " + e.getMessage());
+            writeOriginal(lifecycle, source, slot, png);
+        }
+    }
+
+    // Writes the PNG as captured; the slot was reserved for a JPEG, so it is switched to a .png file and type
+    private static void writeOriginal(AllureLifecycle lifecycle, String source, Attachment slot, byte[] png) {
+        String pngSource = source;
+        if (slot != null) {
+            pngSource = source.replaceFirst("\\.jpg$", ".png");
+            slot.setSource(pngSource).setType("image/png");
+        }
+        lifecycle.writeAttachment(pngSource, new ByteArrayInputStream(png));
+    }
+
+    private static BufferedImage downscale(BufferedImage image) {
+        int width = Math.min(image.getWidth(), MAX_WIDTH);
+        int height = Math.max(1, image.getHeight() * width / image.getWidth());
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
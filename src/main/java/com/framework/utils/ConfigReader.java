@@ -2,48 +2,205 @@ package com.framework.utils;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
+// ConfigReader resolves configuration once into an immutable snapshot built from layered sources,
+// lowest to highest precedence:
+//   1. resources/config.properties
+//   2. resources/config-<profile>.properties, where the profile comes from -Dprofile, the PROFILE
+//      environment variable or the "profile" key of the base file
+//   3. environment variables for keys defined by the files (pool.size -> POOL_SIZE)
+//   4. JVM system properties (-Dkey=value), except the JVM's own java.*, os.*, user.* ... namespaces
+// Reads are a plain lookup in an immutable map, so they are free from any thread.
+// Configuration is startup-only: most consumers copy their settings into static final fields when their
+// class initializes, so changing a file during a run has no effect. reload() only exists for setup code
+// that overrides keys (e.g. with system properties) before anything has read them.
 public class ConfigReader {
-    private static final Properties prop = new Properties();
-    private static boolean loaded = false;
+    private static final Path CONFIG_DIR = Paths.get("resources");
+    private static final String BASE_FILE = "config.properties";
+    private static final List<String> JVM_PROPERTY_PREFIXES = List.of(
+            "java.", "jdk.", "sun.", "os.", "user.", "file.", "line.", "path.", "awt.", "native.",
+            "stdout.", "stderr.", "surefire.", "maven.", "idea.", "jna.", "basedir", "localRepository");
+
+    private static volatile Map<String, String> snapshot = load();
 
     private ConfigReader() {
     }
 
-    private static synchronized void initProperties() {
-        if (loaded) return;
+    // Builds a fresh immutable snapshot from all layers
+    private static Map<String, String> load() {
+        Map<String, String> values = new HashMap<>();
+        readFile(CONFIG_DIR.resolve(BASE_FILE), values, true);
 
-        try (FileInputStream fis = new FileInputStream("resources/config.properties")) {
-            prop.load(fis);
+        String profile = firstNonBlank(System.getProperty("profile"), System.getenv("PROFILE"), values.get("profile"));
+        if (profile != null) {
+            values.put("profile", profile);
+            readFile(CONFIG_DIR.resolve("config-" + profile + ".properties"), values, true);
+        }
 
-            // Merge system properties (CLI) — override loaded values
-            for (String key : prop.stringPropertyNames()) {
-                String sysVal = System.getProperty(key);
-                if (sysVal != null && !sysVal.isEmpty()) {
-                    prop.setProperty(key, sysVal);
-                }
+        for (String key : new ArrayList<>(values.keySet())) {
+            String envValue = System.getenv(toEnvironmentName(key));
+            if (envValue != null && !envValue.isEmpty()) {
+                values.put(key, envValue);
             }
+        }
 
-            // Also load system-only keys not in file
-            for (Object keyObj : System.getProperties().keySet()) {
-                String key = keyObj.toString();
-                if (!prop.containsKey(key)) {
-                    prop.setProperty(key, System.getProperty(key));
-                }
+        Properties systemProperties = System.getProperties();
+        for (String key : systemProperties.stringPropertyNames()) {
+            String value = systemProperties.getProperty(key);
+            if (value != null && !value.isEmpty() && (values.containsKey(key) || !isJvmProperty(key))) {
+                values.put(key, value);
             }
+        }
+        return Collections.unmodifiableMap(values);
+    }
 
-            loaded = true;
+    private static void readFile(Path file, Map<String, String> values, boolean reportMissing) {
+        Properties properties = new Properties();
+        try (FileInputStream fis = new FileInputStream(file.toFile())) {
+            properties.load(fis);
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, properties.getProperty(key).trim());
+            }
         } catch (IOException e) {
-            System.err.println("Unable to load config.properties from resources folder.");
-            e.printStackTrace();
+            if (reportMissing) {
+                System.err.println("Unable to load " + file + " from resources folder.");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static boolean isJvmProperty(String key) {
+        for (String prefix : JVM_PROPERTY_PREFIXES) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toEnvironmentName(String key) {
+        return key.replaceAll("[^A-Za-z0-9]", "_").toUpperCase(Locale.ROOT);
+    }
+
+    private static String firstNonBlank(String... values) {
+        return Arrays.stream(values).filter(v -> v != null && !v.isBlank()).findFirst().orElse(null);
+    }
+
+    // Rebuilds the snapshot from all layers and swaps it in atomically; values already cached by
+    // initialized classes keep their old value
+    public static void reload() {
+        if (Files.isRegularFile(CONFIG_DIR.resolve(BASE_FILE))) {
+            snapshot = load();
         }
     }
 
     public static String getProperty(String key) {
-        if (!loaded) {
-            initProperties();
+        return snapshot.get(key);
+    }
+
+    public static String getProperty(String key, String defaultValue) {
+        String value = snapshot.get(key);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, value, "an integer");
         }
-        return prop.getProperty(key);
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, value, "a long integer");
+        }
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, value, "a number");
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw invalid(key, value, "true or false");
+    }
+
+    // Parses durations like 500ms, 20s, 5m, 1h or ISO-8601 (PT20S); bare numbers are seconds
+    public static Duration getDuration(String key, Duration defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        try {
+            if (lower.startsWith("pt")) {
+                return Duration.parse(value);
+            } else if (lower.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2).trim()));
+            } else if (lower.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(lower.substring(0, lower.length() - 1).trim()));
+            } else if (lower.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(lower.substring(0, lower.length() - 1).trim()));
+            } else if (lower.endsWith("h")) {
+                return Duration.ofHours(Long.parseLong(lower.substring(0, lower.length() - 1).trim()));
+            }
+            return Duration.ofSeconds(Long.parseLong(lower));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalid(key, value, "a duration such as 500ms, 20s, 5m or PT20S");
+        }
+    }
+
+    // Comma-separated list with blank entries removed
+    public static List<String> getList(String key) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(v -> !v.isEmpty()).toList();
+    }
+
+    private static IllegalStateException invalid(String key, String value, String expected) {
+        return new IllegalStateException("Invalid value for config key '" + key + "': '" + value + "' (expected " + expected + ")");
     }
 }
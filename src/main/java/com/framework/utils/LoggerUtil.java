@@ -3,6 +3,7 @@ package com.framework.utils;
 import com.framework.base.DriverFactory;
 import io.qameta.allure.Allure;
 import io.qameta.allure.model.Status;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
@@ -11,81 +12,128 @@ import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import org.testng.asserts.SoftAssert;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 public class LoggerUtil {
     private static final Logger logger = LogManager.getLogger(LoggerUtil.class);
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    public static SoftAssert softAssert = new SoftAssert();
+    // Returns the soft assertion of the current thread's test context
+    public static SoftAssert softAssert() {
+        return TestContext.current().getSoftAssert();
+    }
 
     // Returns the current timestamp as a formatted string
     private static String getTimeStamp() {
         return formatter.format(LocalDateTime.now());
     }
 
+    // Log levels in increasing severity; PASS is logged as INFO, FAIL as ERROR
+    private enum LogLevel {
+        DEBUG(Level.DEBUG), INFO(Level.INFO), PASS(Level.INFO), FAIL(Level.ERROR), ERROR(Level.ERROR);
+
+        private final Level log4jLevel;
+
+        LogLevel(Level log4jLevel) {
+            this.log4jLevel = log4jLevel;
+        }
+    }
+
+    // Lowest level that is recorded as an Allure step (config key allure.stepLevel, default info)
+    private static final LogLevel allureStepFloor = resolveAllureStepFloor();
+
+    // An unknown value falls back to info with a warning instead of failing class initialization
+    private static LogLevel resolveAllureStepFloor() {
+        String value = ConfigReader.getProperty("allure.stepLevel", "info");
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid allure.stepLevel '" + value + "', expected one of "
+                    + Arrays.toString(LogLevel.values()).toLowerCase(Locale.ROOT) + "; using info");
+            return LogLevel.INFO;
+        }
+    }
+
+    // True if a message at this level would reach log4j or the Allure report
+    private static boolean isEnabled(LogLevel level) {
+        return level.compareTo(allureStepFloor) >= 0 || logger.isEnabled(level.log4jLevel);
+    }
+
     // Logs a message with the specified log level and adds Allure steps
-    private static void logWithFormat(String level, String message) {
-        // String formatted = String.format("%s [%s] %s", getTimeStamp(), level.toUpperCase(), message);
-        // INFO: disable below line and enable above line to get logs with time stamp and log type
-        String formatted = message;
-        switch (level.toLowerCase()) {
-            case "debug":
-                logger.debug(formatted);
-                break;
-            case "info":
-                logger.info(formatted);
-                break;
-            case "pass":
-                logger.info(formatted); // For custom level
-                break;
-            case "fail":
-            case "error":
-                logger.error(formatted);
-                break;
-            default:
-                logger.info(formatted);
+    private static void logWithFormat(LogLevel level, String message) {
+        if (isEnabled(level)) {
+            emit(level, message);
         }
-        if (level.equalsIgnoreCase("fail") || level.equalsIgnoreCase("error")) {
-            Allure.step(message, Status.FAILED);
+    }
+
+    // Same as above, but the message is only built when the level is enabled
+    private static void logWithFormat(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            emit(level, message.get());
+        }
+    }
+
+    private static void emit(LogLevel level, String message) {
+        // String formatted = String.format("%s [%s] %s", getTimeStamp(), level, message);
+        // INFO: disable below line and enable above line to get logs with time stamp and log type
+        logger.log(level.log4jLevel, message);
+        if (level.compareTo(allureStepFloor) >= 0) {
+            if (level == LogLevel.FAIL || level == LogLevel.ERROR) {
+                Allure.step(message, Status.FAILED);
+            }
+            Allure.step(message);
         }
-        Allure.step(message);
+        TestContext.current().addStep(message);
     }
 
     // Logs a step/info message
     public static void step(String message) {
-        logWithFormat("info", message);
+        logWithFormat(LogLevel.INFO, message);
+    }
+
+    public static void step(Supplier<String> message) {
+        logWithFormat(LogLevel.INFO, message);
     }
 
     // Logs an info message
     public static void log(String message) {
-        logWithFormat("info", message);
+        logWithFormat(LogLevel.INFO, message);
+    }
+
+    public static void log(Supplier<String> message) {
+        logWithFormat(LogLevel.INFO, message);
     }
 
     // Logs a debug message
     public static void debug(String message) {
-        logWithFormat("debug", message);
+        logWithFormat(LogLevel.DEBUG, message);
+    }
+
+    public static void debug(Supplier<String> message) {
+        logWithFormat(LogLevel.DEBUG, message);
     }
 
     // Logs a pass/success message
     public static void pass(String message) {
-        logWithFormat("pass", "✅ " + message);
+        logWithFormat(LogLevel.PASS, "✅ " + message);
     }
 
     // Logs a failure message, marks soft assertion as failed, and attaches a screenshot
     public static void fail(String message) {
         String log = "❌ " + message;
-        logWithFormat("fail", log);
-        softAssert.fail(log);
+        logWithFormat(LogLevel.FAIL, log);
+        TestContext.current().softFail(log);
         attachScreenshot("Failure Screenshot: " + log);
     }
 
     // Logs an error message, attaches a screenshot, and fails the test
     public static void error(String message) {
         String log = "❌ " + message;
-        logWithFormat("error", log);
+        logWithFormat(LogLevel.ERROR, log);
         attachScreenshot("Error Screenshot: " + log);
         Assert.fail(log);
     }
@@ -111,13 +159,14 @@ public class LoggerUtil {
         }
     }
 
-    // Captures and attaches a screenshot to the Allure report
+    // Captures a screenshot and hands it to the background AttachmentPipeline for the Allure report
     public static void attachScreenshot(String name) {
         try {
             WebDriver driver = DriverFactory.getDriver();
             if (driver != null) {
                 byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                Allure.addAttachment(name, new ByteArrayInputStream(screenshot));
+                AttachmentPipeline.submitScreenshot(name, screenshot);
+                TestContext.current().addAttachment(name);
             }
         } catch (Exception e) {
             logger.error(getTimeStamp() + " [ERROR] Failed to capture screenshot: " + e.getMessage());
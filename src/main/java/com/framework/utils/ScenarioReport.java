@@ -0,0 +1,42 @@
+package com.framework.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// ScenarioReport writes one CSV row per data-driven test invocation to scenarios.resultsFile
+// (test, scenario, thread, status, durationMs, error). The file is recreated once per JVM and every
+// row is flushed right away, so the outcomes of an interrupted run are kept.
+public class ScenarioReport {
+    private static BufferedWriter writer;
+
+    private ScenarioReport() {
+    }
+
+    public static synchronized void record(String test, String scenario, String status, long durationMillis, String error) {
+        try {
+            if (writer == null) {
+                Path file = Paths.get(ConfigReader.getProperty("scenarios.resultsFile", "target/scenario-results.csv"));
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                writer.write("test,scenario,thread,status,durationMs,error\n");
+                LoggerUtil.log("[Scenarios] Writing scenario outcomes to " + file.toAbsolutePath());
+            }
+            writer.write(String.join(",", csv(test), csv(scenario), csv(Thread.currentThread().getName()),
+                    status, String.valueOf(durationMillis), csv(error)) + "\n");
+            writer.flush();
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to write scenario outcome: " + e.getMessage());
+        }
+    }
+
+    private static String csv(String value) {
+        String single = value == null ? "" : value.replace('\n', ' ').replace('\r', ' ');
+        return "\"" + single.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,209 @@
+package com.framework.utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+// ScenarioSource streams rows for data-driven tests from a CSV file (header line first) or a JSONL
+// file (one JSON object per line), reading one line at a time instead of loading the file.
+// Rows can be narrowed down before they become test parameters:
+//   scenarios.filter  column=value pairs that must all match, e.g. from=Vadodara,travelClass=First AC
+//   scenarios.sample  fraction of the matching rows to keep (0..1), drawn with scenarios.seed
+//   scenarios.limit   maximum number of rows
+// Blank lines and lines starting with # are skipped. Every row gets a "_line" entry with its line number.
+public class ScenarioSource implements Iterator<Map<String, String>>, AutoCloseable {
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private final BufferedReader reader;
+    private final boolean jsonLines;
+    private final Map<String, String> filter;
+    private final double sample;
+    private final SplittableRandom random;
+    private final long limit;
+    private List<String> header;
+    private Map<String, String> nextRow;
+    private long lineNumber;
+    private long returned;
+    private boolean closed;
+
+    public ScenarioSource(Path file, Map<String, String> filter, double sample, long seed, long limit) {
+        this.file = file;
+        this.jsonLines = file.getFileName().toString().endsWith(".jsonl");
+        this.filter = filter;
+        this.sample = sample;
+        this.random = new SplittableRandom(seed);
+        this.limit = limit;
+        try {
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open scenario file " + file.toAbsolutePath(), e);
+        }
+    }
+
+    // Opens the file with filter, sampling and limit taken from the scenarios.* config keys
+    public static ScenarioSource open(Path file) {
+        Map<String, String> filter = new LinkedHashMap<>();
+        for (String condition : ConfigReader.getList("scenarios.filter")) {
+            int separator = condition.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("Invalid scenarios.filter entry '" + condition + "', expected column=value");
+            }
+            filter.put(condition.substring(0, separator).trim(), condition.substring(separator + 1).trim());
+        }
+        return new ScenarioSource(file, filter,
+                ConfigReader.getDouble("scenarios.sample", 1.0),
+                ConfigReader.getLong("scenarios.seed", 42),
+                ConfigReader.getLong("scenarios.limit", Long.MAX_VALUE));
+    }
+
+    // Adapts the rows to a TestNG data provider with one mapped parameter per invocation
+    public <T> Iterator<Object[]> toDataProvider(Function<Map<String, String>, T> mapper) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ScenarioSource.this.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{mapper.apply(ScenarioSource.this.next())};
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null && !closed) {
+            nextRow = readNext();
+            if (nextRow == null) {
+                close();
+            }
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, String> row = nextRow;
+        nextRow = null;
+        returned++;
+        return row;
+    }
+
+    private Map<String, String> readNext() {
+        if (returned >= limit) {
+            return null;
+        }
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (!jsonLines && header == null) {
+                    header = parseCsvLine(line);
+                    continue;
+                }
+                Map<String, String> row = jsonLines ? parseJsonLine(line) : toRow(parseCsvLine(line));
+                row.put("_line", String.valueOf(lineNumber));
+                if (matches(row) && (sample >= 1.0 || random.nextDouble() < sample)) {
+                    return row;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read scenario file " + file, e);
+        }
+    }
+
+    private boolean matches(Map<String, String> row) {
+        for (Map.Entry<String, String> condition : filter.entrySet()) {
+            if (!condition.getValue().equals(row.get(condition.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, String> toRow(List<String> values) {
+        if (values.size() != header.size()) {
+            throw new IllegalStateException(file + ":" + lineNumber + " has " + values.size() + " columns, the header has " + header.size());
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        return row;
+    }
+
+    private Map<String, String> parseJsonLine(String line) {
+        Map<String, String> row = new LinkedHashMap<>();
+        try {
+            Map<String, Object> json = JSON.toType(line, Json.MAP_TYPE);
+            json.forEach((key, value) -> row.put(key, value == null ? "" : String.valueOf(value)));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(file + ":" + lineNumber + " is not a JSON object: " + e.getMessage(), e);
+        }
+        return row;
+    }
+
+    // Splits one CSV line; fields may be quoted, with "" for a quote inside a quoted field
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            reader.close();
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to close scenario file " + file + ": " + e.getMessage());
+        }
+    }
+}
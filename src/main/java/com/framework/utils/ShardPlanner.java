@@ -0,0 +1,71 @@
+package com.framework.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// ShardPlanner splits weighted work units (test classes or methods, weighted by expected duration)
+// into N groups with the longest-processing-time-first heuristic: units are taken longest first and
+// each goes to the currently least loaded group. Ties are broken by name, so every worker computes
+// the same plan from the same history.
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    public record Plan(List<List<String>> shards, long[] loads) {
+
+        // Expected wall-clock of the slowest shard
+        public long makespan() {
+            long max = 0;
+            for (long load : loads) {
+                max = Math.max(max, load);
+            }
+            return max;
+        }
+
+        // How much longer the slowest shard runs than a perfect split: 0.0 means perfectly balanced
+        public double imbalance() {
+            long total = 0;
+            for (long load : loads) {
+                total += load;
+            }
+            return total == 0 ? 0.0 : makespan() * (double) loads.length / total - 1.0;
+        }
+    }
+
+    // Longest-first plan: the units sorted by descending weight, then list-scheduled
+    public static Plan plan(Map<String, Long> weights, int shardCount) {
+        return listSchedule(longestFirst(weights), shardCount);
+    }
+
+    // Units by descending weight, ties by name
+    public static List<Map.Entry<String, Long>> longestFirst(Map<String, Long> weights) {
+        List<Map.Entry<String, Long>> units = new ArrayList<>(weights.entrySet());
+        units.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+        return units;
+    }
+
+    // Assigns the units in the given order, each to the currently least loaded group. This is also how a
+    // pool of worker threads picks up a queue of tests, so it predicts the makespan of a given order.
+    public static Plan listSchedule(List<Map.Entry<String, Long>> units, int shardCount) {
+        List<List<String>> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        long[] loads = new long[shardCount];
+
+        for (Map.Entry<String, Long> unit : units) {
+            int target = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            shards.get(target).add(unit.getKey());
+            loads[target] += unit.getValue();
+        }
+        return new Plan(shards, loads);
+    }
+}
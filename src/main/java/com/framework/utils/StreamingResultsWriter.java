@@ -0,0 +1,305 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// StreamingResultsWriter replaces Allure's default writer (allure.writer=streaming, the default):
+//   - results and attachments are handed to one background thread, which writes them one file at a time
+//     through FileSystemResultsWriter, so test threads normally do not wait for report I/O
+//   - the queue is bounded by allure.writer.queueSize items and allure.writer.maxQueuedBytes of attachment
+//     content; when either is reached, the test thread writes the item itself, which keeps memory bounded
+//     and slows producers down to the speed of the disk
+//   - attachments are stored once per content hash; repeats become hard links to the first file
+//   - a test with more than allure.maxSteps steps is summarized before it is written: the first and last
+//     steps, failed or broken steps and steps with attachments are kept, every other run of steps is
+//     replaced by a single "N steps omitted" step
+//   - with allure.results.zip=true the results directory is also packed into <directory>.zip at exit
+// AllureWriterListener installs it before the Allure TestNG listener picks up the lifecycle.
+public class StreamingResultsWriter implements AllureResultsWriter {
+    private static final int QUEUE_SIZE = ConfigReader.getInt("allure.writer.queueSize", 256);
+    private static final long MAX_QUEUED_BYTES = ConfigReader.getLong("allure.writer.maxQueuedBytes", 64L * 1024 * 1024);
+    private static final int MAX_STEPS = ConfigReader.getInt("allure.maxSteps", 500);
+    private static volatile StreamingResultsWriter installed;
+
+    private final Path directory;
+    private final FileSystemResultsWriter delegate;
+    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final Map<String, Path> attachmentsByHash = new ConcurrentHashMap<>();
+    private final Thread worker;
+    private final AtomicLong linkedAttachments = new AtomicLong();
+    private final AtomicLong linkedBytes = new AtomicLong();
+    private final AtomicLong synchronousWrites = new AtomicLong();
+
+    public StreamingResultsWriter(Path directory) {
+        this.directory = directory;
+        this.delegate = new FileSystemResultsWriter(directory);
+        this.worker = new Thread(this::drain, "allure-results-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // Makes this writer the one behind Allure.getLifecycle(); must run before any listener reads the lifecycle
+    public static synchronized void install() {
+        if (installed != null || !"streaming".equalsIgnoreCase(ConfigReader.getProperty("allure.writer", "streaming"))) {
+            return;
+        }
+        Path directory = Paths.get(ConfigReader.getProperty("allure.results.directory", "allure-results"));
+        StreamingResultsWriter writer = new StreamingResultsWriter(directory);
+        Allure.setLifecycle(new AllureLifecycle(writer));
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "allure-results-close"));
+        installed = writer;
+    }
+
+    // Waits until everything queued so far is on disk
+    public static void flushInstalled() {
+        if (installed != null) {
+            installed.flush();
+        }
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        summarizeSteps(testResult, MAX_STEPS);
+        submit(() -> delegate.write(testResult));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        submit(() -> delegate.write(testResultContainer));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        byte[] content;
+        try (InputStream in = attachment) {
+            content = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read attachment " + source, e);
+        }
+        if (queuedBytes.addAndGet(content.length) > MAX_QUEUED_BYTES) {
+            queuedBytes.addAndGet(-content.length);
+            writeSynchronously(() -> writeAttachment(source, content));
+            return;
+        }
+        submit(() -> {
+            try {
+                writeAttachment(source, content);
+            } finally {
+                queuedBytes.addAndGet(-content.length);
+            }
+        });
+    }
+
+    // Queues the write, or runs it on the calling thread while the queue is full
+    private void submit(Runnable task) {
+        if (!queue.offer(task)) {
+            writeSynchronously(task);
+        }
+    }
+
+    private void writeSynchronously(Runnable task) {
+        synchronousWrites.incrementAndGet();
+        run(task);
+    }
+
+    private void writeAttachment(String source, byte[] content) {
+        String hash = sha256(content);
+        Path first = attachmentsByHash.get(hash);
+        if (first != null) {
+            try {
+                Files.createLink(directory.resolve(source), first);
+                linkedAttachments.incrementAndGet();
+                linkedBytes.addAndGet(content.length);
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                LoggerUtil.debug("Unable to link attachment " + source + ", writing a copy: " + e.getMessage());
+            }
+        }
+        delegate.write(source, new ByteArrayInputStream(content));
+        attachmentsByHash.putIfAbsent(hash, directory.resolve(source));
+    }
+
+    private void drain() {
+        while (true) {
+            try {
+                run(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LoggerUtil.debug("Unable to write Allure result: " + e.getMessage());
+        }
+    }
+
+    public void flush() {
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            queue.put(done::countDown);
+            if (!done.await(60, TimeUnit.SECONDS)) {
+                LoggerUtil.debug("Timed out waiting for Allure results to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void close() {
+        flush();
+        if (linkedAttachments.get() > 0) {
+            LoggerUtil.log("[Allure] " + linkedAttachments.get() + " duplicate attachment(s) stored as links, " + linkedBytes.get() / 1024 + " KB saved");
+        }
+        if (synchronousWrites.get() > 0) {
+            LoggerUtil.log("[Allure] Writer queue was full " + synchronousWrites.get() + " time(s); those results were written by the test threads");
+        }
+        if (ConfigReader.getBoolean("allure.results.zip", false)) {
+            zip();
+        }
+    }
+
+    // Packs the results directory into one archive for upload
+    private void zip() {
+        Path archive = directory.resolveSibling(directory.getFileName() + ".zip");
+        try (OutputStream out = Files.newOutputStream(archive);
+             ZipOutputStream zip = new ZipOutputStream(out);
+             Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                zip.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                Files.copy(file, zip);
+                zip.closeEntry();
+            }
+            LoggerUtil.log("[Allure] Results packed into " + archive.toAbsolutePath());
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to pack Allure results: " + e.getMessage());
+        }
+    }
+
+    // Caps the steps of a test at maxSteps (allure.maxSteps, see class comment)
+    static void summarizeSteps(TestResult testResult, int maxSteps) {
+        int total = count(testResult.getSteps());
+        if (maxSteps <= 0 || total <= maxSteps) {
+            return;
+        }
+        int tail = maxSteps / 5;
+        StepWindow window = new StepWindow(maxSteps, maxSteps - tail, total - tail);
+        testResult.setSteps(prune(testResult.getSteps(), window));
+    }
+
+    // Keeps steps with an index below head or from tailStart on; index counts steps depth-first
+    private static final class StepWindow {
+        private final int maxSteps;
+        private final int head;
+        private final int tailStart;
+        private int index;
+
+        private StepWindow(int maxSteps, int head, int tailStart) {
+            this.maxSteps = maxSteps;
+            this.head = head;
+            this.tailStart = tailStart;
+        }
+    }
+
+    private static List<StepResult> prune(List<StepResult> steps, StepWindow window) {
+        List<StepResult> kept = new ArrayList<>();
+        List<StepResult> omitted = new ArrayList<>();
+        for (StepResult step : steps) {
+            int index = window.index++;
+            int descendants = count(step.getSteps());
+            // A step is only omitted as a whole when its entire subtree lies between head and tailStart
+            if (index < window.head || index + descendants >= window.tailStart || isImportant(step)) {
+                addSummary(kept, omitted, window);
+                step.setSteps(prune(step.getSteps(), window));
+                kept.add(step);
+            } else {
+                window.index += descendants;
+                omitted.add(step);
+            }
+        }
+        addSummary(kept, omitted, window);
+        return kept;
+    }
+
+    private static void addSummary(List<StepResult> kept, List<StepResult> omitted, StepWindow window) {
+        if (omitted.isEmpty()) {
+            return;
+        }
+        int count = count(omitted);
+        kept.add(new StepResult()
+                .setName(count + " passed step(s) omitted (allure.maxSteps=" + window.maxSteps + ")")
+                .setStatus(Status.PASSED)
+                .setStage(Stage.FINISHED)
+                .setStart(omitted.get(0).getStart())
+                .setStop(omitted.get(omitted.size() - 1).getStop()));
+        omitted.clear();
+    }
+
+    // Failed or broken steps and steps with attachments are always kept, as are their parents
+    private static boolean isImportant(StepResult step) {
+        if ((step.getStatus() != null && step.getStatus() != Status.PASSED) || !step.getAttachments().isEmpty()) {
+            return true;
+        }
+        for (StepResult child : step.getSteps()) {
+            if (isImportant(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int count(List<StepResult> steps) {
+        int count = steps.size();
+        for (StepResult step : steps) {
+            count += count(step.getSteps());
+        }
+        return count;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.framework.utils;
+
+import org.testng.asserts.SoftAssert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// TestContext holds the per-thread execution state of the running test: soft assertions,
+// step logs and attachment names. Each TestNG worker thread gets its own context, which
+// TestContextListener finalizes (assertAll) and clears after every test method, so
+// failures never leak between tests running in parallel.
+// It also carries the deadline of the running test or configuration method (test.budget), which
+// every page object wait draws from (see WaitBudget).
+public class TestContext {
+    private static final ThreadLocal<TestContext> current = ThreadLocal.withInitial(TestContext::new);
+
+    private final SoftAssert softAssert = new SoftAssert();
+    private final List<String> steps = new ArrayList<>();
+    private final List<String> attachments = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+    private long deadlineNanos = Long.MAX_VALUE;
+    private Duration budget = Duration.ZERO;
+
+    private TestContext() {
+    }
+
+    // Returns the context bound to the current thread, creating it on first use
+    public static TestContext current() {
+        return current.get();
+    }
+
+    // Detaches and returns the current thread's context; the next call to current() starts a fresh one
+    public static TestContext end() {
+        TestContext context = current.get();
+        current.remove();
+        return context;
+    }
+
+    public SoftAssert getSoftAssert() {
+        return softAssert;
+    }
+
+    // Records a soft failure and adds it to the soft assertion
+    public void softFail(String message) {
+        failures.add(message);
+        softAssert.fail(message);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public List<String> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    // Starts a new deadline budget for the method about to run; a zero budget means unlimited
+    public void startDeadline(Duration budget) {
+        this.budget = budget;
+        this.deadlineNanos = budget.isZero() || budget.isNegative() ? Long.MAX_VALUE : System.nanoTime() + budget.toNanos();
+    }
+
+    public boolean hasDeadline() {
+        return deadlineNanos != Long.MAX_VALUE;
+    }
+
+    // Time left until the deadline, never negative; Duration of Long.MAX_VALUE nanos when unlimited
+    public Duration remaining() {
+        if (!hasDeadline()) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public void addStep(String message) {
+        steps.add(message);
+    }
+
+    public List<String> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public void addAttachment(String name) {
+        attachments.add(name);
+    }
+
+    public List<String> getAttachments() {
+        return Collections.unmodifiableList(attachments);
+    }
+}
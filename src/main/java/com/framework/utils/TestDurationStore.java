@@ -0,0 +1,131 @@
+package com.framework.utils;
+
+import org.openqa.selenium.json.Json;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// TestDurationStore keeps the duration of every test and configuration method ("class#method", in
+// milliseconds) across runs in <history.dir>/durations.json. Each run's measurement is blended into
+// the stored value with an exponential moving average, so one slow run does not dominate planning.
+// Several workers may save into the same file: save() re-reads it and only updates measured keys.
+public class TestDurationStore {
+    private static final Json JSON = new Json();
+    private static final double SMOOTHING = ConfigReader.getDouble("history.smoothing", 0.3);
+    private static final Map<String, Long> measured = new ConcurrentHashMap<>();
+    private static volatile Map<String, Long> history = load();
+
+    private TestDurationStore() {
+    }
+
+    private static Path file() {
+        return Paths.get(ConfigReader.getProperty("history.dir", ".test-history"), "durations.json");
+    }
+
+    public static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static Map<String, Long> load() {
+        Path file = file();
+        Map<String, Long> values = new HashMap<>();
+        if (!Files.exists(file)) {
+            return values;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Object> raw = JSON.toType(reader, Json.MAP_TYPE);
+            raw.forEach((key, value) -> {
+                if (value instanceof Number number) {
+                    values.put(key, number.longValue());
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.debug("Ignoring unreadable duration history " + file + ": " + e.getMessage());
+        }
+        return values;
+    }
+
+    // Stored duration of one method, if it ran before
+    public static OptionalLong get(String key) {
+        Long value = history.get(key);
+        return value == null ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+
+    // Stored duration of a test class: all of its test and configuration methods together
+    public static OptionalLong getClassTotal(String className) {
+        String prefix = className + "#";
+        long total = 0;
+        boolean found = false;
+        for (Map.Entry<String, Long> entry : history.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                total += entry.getValue();
+                found = true;
+            }
+        }
+        return found ? OptionalLong.of(total) : OptionalLong.empty();
+    }
+
+    // Median of all stored durations, the estimate for methods without history
+    public static OptionalLong median() {
+        List<Long> values = new ArrayList<>(history.values());
+        if (values.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        Collections.sort(values);
+        return OptionalLong.of(values.get(values.size() / 2));
+    }
+
+    // Expected duration of a planning unit: the method's whole test class, or the method alone.
+    // Units without history get the median stored duration, or history.defaultDuration without any history.
+    public static long estimate(ITestNGMethod method, boolean wholeClass) {
+        OptionalLong known = wholeClass ? getClassTotal(method.getRealClass().getName()) : get(key(method));
+        if (known.isPresent()) {
+            return known.getAsLong();
+        }
+        return median().orElse(ConfigReader.getDuration("history.defaultDuration", Duration.ofSeconds(60)).toMillis());
+    }
+
+    // Adds a measured invocation; repeated invocations of one method in a run are summed
+    public static void record(String key, long millis) {
+        measured.merge(key, millis, Long::sum);
+    }
+
+    // Blends this run's measurements into the file and makes them visible to get()
+    public static synchronized void save() {
+        if (measured.isEmpty()) {
+            return;
+        }
+        Map<String, Long> merged = new TreeMap<>(load());
+        measured.forEach((key, millis) -> {
+            Long previous = merged.get(key);
+            merged.put(key, previous == null ? millis : Math.round(previous * (1 - SMOOTHING) + millis * SMOOTHING));
+        });
+        measured.clear();
+
+        Path file = file();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "durations", ".tmp");
+            Files.writeString(temp, JSON.toJson(merged), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LoggerUtil.debug("Unable to save duration history " + file + ": " + e.getMessage());
+        }
+        history = new HashMap<>(merged);
+    }
+}
@@ -0,0 +1,138 @@
+package com.framework.benchmarks;
+
+import com.framework.base.DriverFactory;
+import com.framework.fixture.FixtureSite;
+import com.framework.pages.AddTravellerInformationDialog;
+import com.framework.pages.DashboardPage;
+import com.framework.pages.SelectTravellersPage;
+import com.framework.pages.TrainsPage;
+import com.framework.utils.ConfigReader;
+import com.framework.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Drives the page objects through the booking flow against the local FixtureSite in headless Chrome
+// and reports per-operation latency percentiles. Not part of the default build; run it with
+//   mvn test -Pbenchmark [-Dbenchmark.iterations=10 -Dbenchmark.listings=10,100,500]
+// Results are logged and written to target/benchmarks/page-objects.csv.
+public class PageObjectBenchmark {
+    private static final Path RESULTS_FILE = Paths.get("target", "benchmarks", "page-objects.csv");
+
+    private FixtureSite site;
+    private WebDriver driver;
+    private final Map<String, List<Long>> samples = new LinkedHashMap<>();
+
+    @BeforeClass
+    public void setUp() {
+        site = new FixtureSite(10, ConfigReader.getDuration("benchmark.apiLatency", Duration.ofMillis(50)));
+        // Point the page objects at the fixture site; system properties are the highest config layer
+        System.setProperty("baseUrl", site.getBaseUrl());
+        System.setProperty("trainsUrl", site.getTrainsUrl());
+        System.setProperty("headless", "true");
+        ConfigReader.reload();
+        driver = DriverFactory.leaseDriver();
+    }
+
+    @Test(description = "Page object latency against the local fixture site")
+    public void benchmarkBookingFlow() {
+        int warmup = ConfigReader.getInt("benchmark.warmup", 1);
+        int iterations = ConfigReader.getInt("benchmark.iterations", 5);
+        List<String> listingCounts = ConfigReader.getList("benchmark.listings");
+        LocalDate travelDate = LocalDate.now().plusDays(35);
+
+        for (String listings : listingCounts.isEmpty() ? List.of("10", "100") : listingCounts) {
+            site.setListingCount(Integer.parseInt(listings));
+            for (int i = 0; i < warmup + iterations; i++) {
+                runFlow(i < warmup ? null : "listings=" + listings, travelDate);
+            }
+        }
+        report();
+    }
+
+    // One pass through the booking flow; timings are recorded under the label unless it is a warm-up pass
+    private void runFlow(String label, LocalDate travelDate) {
+        DashboardPage dashboardPage = time(label, "open dashboard", () -> {
+            driver.get(site.getBaseUrl());
+            return new DashboardPage(driver);
+        });
+        TrainsPage trainsPage = time(label, "goToTrainsPage", dashboardPage::goToTrainsPage);
+        SelectTravellersPage selectTravellersPage = time(label, "searchTrainForNextFriday",
+                () -> trainsPage.searchTrainForNextFriday("Vadodara", "Surat", "First AC", travelDate));
+        AddTravellerInformationDialog dialog = time(label, "clickAddTraveller", selectTravellersPage::clickAddTraveller);
+        String personInfo = time(label, "addTravellerInformation", () -> dialog.addTravellerInformation("Walter White", "52", "Male"));
+        time(label, "verifyTravellerDetailsExists", () -> {
+            selectTravellersPage.verifyTravellerDetailsExists(personInfo);
+            return null;
+        });
+        time(label, "clickPayAndBookNow", () -> {
+            selectTravellersPage.clickPayAndBookNow();
+            return null;
+        });
+        time(label, "printAllDetailsFromPayAndBookNowWidget", () -> {
+            selectTravellersPage.printAllDetailsFromPayAndBookNowWidget();
+            return null;
+        });
+    }
+
+    private <T> T time(String label, String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        if (label != null) {
+            samples.computeIfAbsent(operation + " [" + label + "]", key -> new ArrayList<>()).add(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private void report() {
+        StringBuilder csv = new StringBuilder("operation,samples,p50_ms,p90_ms,p99_ms,max_ms\n");
+        LoggerUtil.log(String.format("%-60s %7s %9s %9s %9s %9s", "operation", "samples", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, List<Long>> entry : samples.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            double p50 = percentile(sorted, 50);
+            double p90 = percentile(sorted, 90);
+            double p99 = percentile(sorted, 99);
+            double max = sorted[sorted.length - 1] / 1_000_000.0;
+            LoggerUtil.log(String.format("%-60s %7d %9.1f %9.1f %9.1f %9.1f", entry.getKey(), sorted.length, p50, p90, p99, max));
+            csv.append(String.format("\"%s\",%d,%.1f,%.1f,%.1f,%.1f%n", entry.getKey(), sorted.length, p50, p90, p99, max));
+        }
+        try {
+            Files.createDirectories(RESULTS_FILE.getParent());
+            Files.writeString(RESULTS_FILE, csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write benchmark results", e);
+        }
+        LoggerUtil.log("Benchmark results written to " + RESULTS_FILE.toAbsolutePath());
+    }
+
+    // Nearest-rank percentile of sorted nanosecond samples, in milliseconds
+    private static double percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown(ITestContext context) {
+        DriverFactory.releaseDriver(!context.getFailedTests().getAllResults().isEmpty());
+        if (site != null) {
+            site.close();
+        }
+    }
+}
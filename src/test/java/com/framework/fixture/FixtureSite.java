@@ -0,0 +1,183 @@
+package com.framework.fixture;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// FixtureSite is a local stand-in for the booking site, serving the static pages under
+// src/test/resources/fixture plus two JSON endpoints used by the trains page:
+//   /api/stations?q=...   autosuggest results
+//   /api/listings?...     generated train listings (listingCount cards, filtered by departure and class)
+// /railways/listing?... serves the trains page for search deep links.
+// Every API response is delayed by apiLatency so waits behave like they do against a real backend.
+public class FixtureSite implements AutoCloseable {
+    private static final Json JSON = new Json();
+    private static final List<String> STATIONS = List.of(
+            "Vadodara Jn (BRC)", "Surat (ST)", "Mumbai Central (MMCT)", "Ahmedabad Jn (ADI)",
+            "New Delhi (NDLS)", "Bharuch Jn (BH)", "Valsad (BL)", "Vapi (VAPI)");
+    private static final String[][] CLASSES = {
+            {"SL", "Sleeper Class"}, {"3A", "Third AC"}, {"2A", "Second AC"}, {"1A", "First AC"}};
+    private static final Map<String, int[]> DEPARTURE_RANGES = Map.of(
+            "12am - 6am", new int[]{0, 6}, "6am - 12pm", new int[]{6, 12},
+            "12pm - 6pm", new int[]{12, 18}, "6pm - 12am", new int[]{18, 24});
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fixture-site");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile int listingCount;
+    private final Duration apiLatency;
+
+    public FixtureSite(int listingCount, Duration apiLatency) {
+        this.listingCount = listingCount;
+        this.apiLatency = apiLatency;
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start fixture site", e);
+        }
+        server.createContext("/api/stations", exchange -> respondJson(exchange, stations(query(exchange).getOrDefault("q", ""))));
+        server.createContext("/api/listings", exchange -> respondJson(exchange, listings(query(exchange))));
+        // Search result deep links render the trains page, which reads its query parameters
+        server.createContext("/railways/listing", exchange -> serveResource(exchange, "/railways/index.html"));
+        server.createContext("/", exchange -> serveResource(exchange, exchange.getRequestURI().getPath()));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    // Base URL of the dashboard page, e.g. http://127.0.0.1:41234/
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public String getTrainsUrl() {
+        return getBaseUrl() + "railways/";
+    }
+
+    public void setListingCount(int listingCount) {
+        this.listingCount = listingCount;
+    }
+
+    private List<String> stations(String query) {
+        String needle = query.toLowerCase(Locale.ENGLISH);
+        return STATIONS.stream().filter(station -> station.toLowerCase(Locale.ENGLISH).contains(needle)).toList();
+    }
+
+    // Deterministic listings: departure hours spread across the day, every fourth seat on a wait list
+    private List<Map<String, Object>> listings(Map<String, String> query) {
+        String from = query.getOrDefault("from", "");
+        String to = query.getOrDefault("to", "");
+        int[] range = DEPARTURE_RANGES.getOrDefault(query.getOrDefault("departure", ""), new int[]{0, 24});
+        String travelClass = query.getOrDefault("travelClass", "");
+
+        List<Map<String, Object>> listings = new ArrayList<>();
+        for (int i = 0; i < listingCount; i++) {
+            int hour = (i * 5 + 1) % 24;
+            int minute = (i * 13) % 60;
+            if (hour < range[0] || hour >= range[1]) {
+                continue;
+            }
+            List<Map<String, Object>> seats = new ArrayList<>();
+            for (int c = 0; c < CLASSES.length; c++) {
+                if (!travelClass.isEmpty() && !travelClass.equals("ALL") && !travelClass.equals(CLASSES[c][0])) {
+                    continue;
+                }
+                seats.add(Map.of(
+                        "classInfo", CLASSES[c][1] + " (" + CLASSES[c][0] + ")",
+                        "availability", (i + c) % 4 == 0 ? "WL " + (i % 30 + 1) : "Available " + (i * 3 % 90 + 1),
+                        "price", String.format(Locale.ENGLISH, "₹ %,d", 245 + c * 410 + i * 7)));
+            }
+            int arrival = hour * 60 + minute + 130;
+            Map<String, Object> listing = new LinkedHashMap<>();
+            listing.put("trainName", "Fixture Express " + (12001 + i));
+            listing.put("dateTimeInfo", List.of(
+                    String.format("%02d:%02d, 5 Sep", hour, minute), from, "2h 10m", "View Route",
+                    String.format("%02d:%02d, %s Sep", arrival / 60 % 24, arrival % 60, arrival >= 24 * 60 ? "6" : "5"), to));
+            listing.put("seats", seats);
+            listings.add(listing);
+        }
+        return listings;
+    }
+
+    private void respondJson(HttpExchange exchange, Object body) throws IOException {
+        try {
+            Thread.sleep(apiLatency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        send(exchange, 200, "application/json", JSON.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void serveResource(HttpExchange exchange, String path) throws IOException {
+        if (path.endsWith("/")) {
+            path += "index.html";
+        }
+        try (InputStream resource = FixtureSite.class.getResourceAsStream("/fixture" + path)) {
+            if (resource == null || path.contains("..")) {
+                send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, contentType(path), resource.readAllBytes());
+        }
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        }
+        if (path.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        }
+        return path.endsWith(".css") ? "text/css; charset=utf-8" : "application/octet-stream";
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
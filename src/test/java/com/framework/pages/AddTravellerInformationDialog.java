@@ -7,10 +7,11 @@ import org.openqa.selenium.WebDriver;
 
 public class AddTravellerInformationDialog extends BasePage {
     private final String widgetXpath = "//div[@id=\"mmt-rails-add-traveller\"]";
+    private final By widget = By.xpath(widgetXpath);
 
     public AddTravellerInformationDialog(WebDriver driver) {
         super(driver);
-        this.waitUntilVisible(By.xpath(widgetXpath), "Add Traveller Information Dialog Widget");
+        this.awaitReady("Add Traveller Information Dialog", widget);
     }
 
     public static String formatPersonInfo(String name, String age, String gender) {
@@ -20,21 +21,21 @@ public class AddTravellerInformationDialog extends BasePage {
     }
 
     public void fillName(String name) {
-        this.typeText(By.xpath(widgetXpath + "//input[@id=\"name\"]"), name, "Enter name");
+        this.typeText(widget, By.xpath(".//input[@id=\"name\"]"), name, "Enter name");
     }
 
     public void fillAge(String age) {
-        this.typeText(By.xpath(widgetXpath + "//input[@id=\"age\"]"), age, "Enter Age (in years)");
+        this.typeText(widget, By.xpath(".//input[@id=\"age\"]"), age, "Enter Age (in years)");
     }
 
     public void selectGender(String gender) {
-        String genderDropdownWidgetXpath = widgetXpath + "//label[@for=\"gender\"]//following-sibling::div";
-        this.clickElement(By.xpath(genderDropdownWidgetXpath), "Click gender widget to activate dropdown");
-        this.clickElement(By.xpath(genderDropdownWidgetXpath + "//li[contains(., \"" + gender + "\")]"), "Dropdown list element for gender: " + gender);
+        String genderDropdownWidgetXpath = ".//label[@for=\"gender\"]//following-sibling::div";
+        this.clickElement(widget, By.xpath(genderDropdownWidgetXpath), "Click gender widget to activate dropdown");
+        this.clickElement(widget, By.xpath(genderDropdownWidgetXpath + "//li[contains(., \"" + gender + "\")]"), "Dropdown list element for gender: " + gender);
     }
 
     public void clickAddButton() {
-        this.clickElement(By.xpath(widgetXpath + "//button[contains(., \"Add\")]"), "Add button");
+        this.clickElement(widget, By.xpath(".//button[contains(., \"Add\")]"), "Add button");
     }
 
     public String addTravellerInformation(String name, String age, String gender) {
@@ -9,7 +9,9 @@ public class ConfirmedOptionsDialog extends BasePage {
 
     public ConfirmedOptionsDialog(WebDriver driver) {
         super(driver);
-        this.waitForTimeout(1, "Wait for Confirmed Option dialog to load");
+        this.waitForPageToSettleBriefly("Wait for Confirmed Option dialog to load");
+        // The dialog is optional, so there is no widget to require; this only closes the readiness gate
+        this.awaitReady("Confirmed Options dialog");
     }
 
     public boolean checkIfConfirmedOptionsDialogExists() {
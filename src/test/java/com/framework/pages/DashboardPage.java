@@ -1,34 +1,70 @@
 package com.framework.pages;
 
 import com.framework.base.BasePage;
+import com.framework.base.SessionState;
+import com.framework.utils.ConfigReader;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
 
 public class DashboardPage extends BasePage {
+    private static final Duration LOGIN_MODAL_TIMEOUT = ConfigReader.getDuration("dashboard.loginModalTimeout", Duration.ofSeconds(10));
 
     private final String navigationBarXpath = "//nav";
+    private final By closeLoginModalButton = By.xpath("//span[@data-cy='closeModal']");
 
+    // With a restored session state the login modal is already dismissed and INR selected; whenever the
+    // UI still had to do either, the prepared state is saved for the next session
     public DashboardPage(WebDriver driver) {
         super(driver);
-        clickElement(By.xpath("//span[@data-cy='closeModal']"), "Cross Button of 'Login/Signup With' dialog");
-        this.changeToIndiaWebsite();
-        waitUntilVisible(By.xpath(navigationBarXpath), "Dashboard navigation menu bar");
+        awaitReady("Dashboard page", By.xpath(navigationBarXpath));
+        boolean preparedThroughUi = this.closeLoginModalIfShown(!SessionState.wasRestored(driver));
+        preparedThroughUi |= this.changeToIndiaWebsite();
+        if (preparedThroughUi) {
+            SessionState.save(driver);
+        }
+    }
+
+    // Returns true when the modal was shown and had to be closed. When it is expected (no restored session
+    // state) it may open late, so it is waited for up to dashboard.loginModalTimeout instead of checked once
+    private boolean closeLoginModalIfShown(boolean expected) {
+        boolean shown = expected ? this.waitForLoginModal() : isElementVisible(closeLoginModalButton, "Cross Button of 'Login/Signup With' dialog");
+        if (!shown) {
+            return false;
+        }
+        clickElement(closeLoginModalButton, "Cross Button of 'Login/Signup With' dialog");
+        return true;
     }
 
-    public void changeToIndiaWebsite() {
+    // Returns true when the website had to be switched to INR through the dialog
+    public boolean changeToIndiaWebsite() {
         String countryLanguageSelectionXpath = "//span[@data-testid=\"country-lang-switcher\"]";
         String text = this.getElementText(By.xpath(countryLanguageSelectionXpath), "country-lang-switcher");
         if (text.contains("INR")) {
-            return;
+            return false;
         }
         else {
             Allure.step("Change country and language to INR", () -> {
                 this.clickElement(By.xpath(countryLanguageSelectionXpath), "country-lang-switcher");
                 CountryLanguageDialog countryLanguageDialog = new CountryLanguageDialog(this.driver);
                 countryLanguageDialog.changeCountryAndApply();
-                clickElement(By.xpath("//span[@data-cy='closeModal']"), "Cross Button of 'Login/Signup With' dialog");
+                closeLoginModalIfShown(true);
             });
+            return true;
+        }
+    }
+
+    private boolean waitForLoginModal() {
+        try {
+            waitFor(ExpectedConditions.visibilityOfElementLocated(closeLoginModalButton), null, LOGIN_MODAL_TIMEOUT,
+                    "'Login/Signup With' dialog to open");
+            return true;
+        } catch (TimeoutException e) {
+            return false;
         }
     }
 
@@ -0,0 +1,39 @@
+package com.framework.pages;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Properties;
+
+// SearchCodes is the station and travel class code table behind train search deep links, loaded once
+// from search-codes.properties on the test classpath. Unknown names return empty, so callers can fall
+// back to the search form.
+public class SearchCodes {
+    private static final Properties CODES = load();
+
+    private SearchCodes() {
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = SearchCodes.class.getResourceAsStream("/search-codes.properties")) {
+            if (in != null) {
+                properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read search-codes.properties", e);
+        }
+        return properties;
+    }
+
+    public static Optional<String> station(String city) {
+        return Optional.ofNullable(CODES.getProperty("station." + city));
+    }
+
+    public static Optional<String> travelClass(String travelClass) {
+        return Optional.ofNullable(CODES.getProperty("class." + travelClass));
+    }
+}
@@ -12,15 +12,17 @@ import java.util.List;
 public class SelectTravellersPage extends BasePage {
     private final String widgetXpath = "//div[@class=\"railTravellersWrapper\"]";
     private final String payAndBookNowWraper = widgetXpath + "//div[@class=\"payNowWrapper\"]";
+    private final By widget = By.xpath(widgetXpath);
+    private final By payAndBookNowWidget = By.xpath(payAndBookNowWraper);
 
     public SelectTravellersPage(WebDriver driver) {
         super(driver);
-        this.waitUntilVisible(By.xpath(widgetXpath), "SelectTravellersPage Widget");
+        this.awaitReady("SelectTravellersPage", widget);
     }
 
     public AddTravellerInformationDialog clickAddTraveller() {
         Allure.step("Click add Traveller to open 'Add Traveller Information' dialog", () -> {
-            this.clickElement(By.xpath(widgetXpath + "//span[text()=\"Add Traveller\"]"), "Add Traveller");
+            this.clickElement(widget, By.xpath(".//span[text()=\"Add Traveller\"]"), "Add Traveller");
         });
         return new AddTravellerInformationDialog(this.driver);
     }
@@ -28,8 +30,8 @@ public class SelectTravellersPage extends BasePage {
     public void clickPayAndBookNow() {
         String log = "Click 'Pay & Book Now'";
         Allure.step(log, () -> {
-            this.clickElement(By.xpath(payAndBookNowWraper + "//span[contains(., \"Pay & Book Now\")]"), log);
-            String errMsg = this.getElementText(By.xpath(widgetXpath + "//h3[text()=\"IRCTC Account Details\"]//following-sibling::div//p[contains(@class, \"errorMsg\")]"), "Error message");
+            this.clickElement(payAndBookNowWidget, By.xpath(".//span[contains(., \"Pay & Book Now\")]"), log);
+            String errMsg = this.getElementText(widget, By.xpath(".//h3[text()=\"IRCTC Account Details\"]//following-sibling::div//p[contains(@class, \"errorMsg\")]"), "Error message");
             LoggerUtil.attachScreenshot("Error message displayed is: " + errMsg);
         });
     }
@@ -37,7 +39,7 @@ public class SelectTravellersPage extends BasePage {
     public void printAllDetailsFromPayAndBookNowWidget() {
         String log = "Print All Details From Pay And Book Now Widget";
         Allure.step(log, () -> {
-            String details = this.getElementText(By.xpath(payAndBookNowWraper + "//div[@class=\"paymentDetailsWrapper\"]"), "payment Details Wrapper");
+            String details = this.getElementText(payAndBookNowWidget, By.xpath(".//div[@class=\"paymentDetailsWrapper\"]"), "payment Details Wrapper");
             Allure.step("Details are: " + details);
         });
     }
@@ -0,0 +1,46 @@
+package com.framework.pages;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Typed snapshot of one train listing card, extracted in bulk by TrainsPage
+public record TrainListing(String trainName, String departureTimeDate, String departureStation,
+                           String travelDuration, String arrivalTimeDate, String arrivalStation,
+                           List<SeatOption> seats) {
+
+    // One available class on a listing card, with a handle to its clickable card
+    public record SeatOption(String classInfo, String availability, String priceDetails, WebElement element) {
+
+        // Ticket price with currency symbols and separators stripped, e.g. "₹ 1,235" -> 1235
+        public int price() {
+            return parsePrice(priceDetails);
+        }
+    }
+
+    public static int parsePrice(String priceDetails) {
+        String priceOnly = priceDetails.replaceAll("\\D", "");
+        return priceOnly.isEmpty() ? 0 : Integer.parseInt(priceOnly);
+    }
+
+    // Builds a listing from the raw date/time block text, whose lines are:
+    // departure time/date, departure station, duration, "View Route", arrival time/date, arrival station
+    public static TrainListing parse(String trainName, String dateTimeInfo, List<SeatOption> seats) {
+        // innerText can contain blank lines between block elements that getText() used to collapse
+        String[] parts = dateTimeInfo.trim().split("\\s*\n\\s*");
+        return new TrainListing(trainName, parts[0], parts[1], parts[2], parts[4], parts[5], seats);
+    }
+
+    // Maps a record produced by TrainsPage.LISTING_EXTRACTOR
+    @SuppressWarnings("unchecked")
+    static TrainListing fromExtractedRecord(Map<String, Object> record) {
+        List<SeatOption> seats = new ArrayList<>();
+        for (Map<String, Object> seat : (List<Map<String, Object>>) record.get("seats")) {
+            seats.add(new SeatOption((String) seat.get("classInfo"), (String) seat.get("availability"),
+                    (String) seat.get("price"), (WebElement) seat.get("element")));
+        }
+        return parse((String) record.get("trainName"), (String) record.get("dateTimeInfo"), seats);
+    }
+}
@@ -1,36 +1,53 @@
 package com.framework.pages;
 
 import com.framework.base.BasePage;
+import com.framework.utils.ConfigReader;
 import com.framework.utils.DateUtil;
 import com.framework.utils.LoggerUtil;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class TrainsPage extends BasePage {
+    private static final String LISTING_CARD_XPATH = "//div[contains(@class, \"ListingCard_listingTopInfo\")]";
+    // Serializes a listing card and its available seat cards in one script call (see BasePage.extractRecords)
+    private static final String LISTING_EXTRACTOR = """
+            return {
+              trainName: text(node, ".//p[@data-testid='train-name']"),
+              dateTimeInfo: text(node, ".//div[contains(@class, 'ListingCard_dateTimeInfo')]"),
+              seats: all(node, ".//div[@data-testid='card-wrapper' and contains(., 'Available')]").map(function (seat) {
+                return {
+                  classInfo: text(seat, ".//p[@data-testid='class-info']"),
+                  availability: text(seat, ".//p[@data-testid='availability-text']"),
+                  price: text(seat, ".//p[contains(@class, 'Cards_totalText')]"),
+                  element: seat
+                };
+              })
+            };
+            """;
 
     public TrainsPage(WebDriver driver) {
         super(driver);
-        this.waitUntilExpectedUrl("https://www.makemytrip.com/railways/");
+        this.waitUntilExpectedUrl(ConfigReader.getProperty("trainsUrl", "https://www.makemytrip.com/railways/"));
+        this.awaitReady("Trains page", By.xpath("//label[@for=\"fromCity\"]"));
     }
 
-    public static void formatTrainInfo(String rawInfo) {
-        String[] parts = rawInfo.split("\n");
-
-        String departureTimeDate = parts[0].trim();
-        String departureStation = parts[1].trim();
-        String travelDuration = parts[2].trim();
-        String arrivalTimeDate = parts[4].trim();  // skipping "View Route"
-        String arrivalStation = parts[5].trim();
-
+    public static void formatTrainInfo(TrainListing listing) {
         LoggerUtil.step(String.format(
                 "Departure time and date from '%s' is '%s' and Arrival date and time at '%s' is '%s' | Estimated time '%s'",
-                departureStation, departureTimeDate, arrivalStation, arrivalTimeDate, travelDuration
+                listing.departureStation(), listing.departureTimeDate(), listing.arrivalStation(), listing.arrivalTimeDate(), listing.travelDuration()
         ));
     }
 
@@ -41,7 +58,7 @@ public class TrainsPage extends BasePage {
     public void fillTravelClass(String travelClass) {
         Allure.step("Enter travel class: " + travelClass, () -> {
             this.clickElement(By.xpath("//label[@for=\"travelClass\"]"), "travelClass label to activate dropdown");
-            this.clickElement(By.xpath("//ul[@class=\"travelForPopup\"]//li[contains(., \"First AC\")]"), "Select value from dropdown");
+            this.clickElement(By.xpath("//ul[@class=\"travelForPopup\"]//li[contains(., \"" + travelClass + "\")]"), "Select value from dropdown");
         });
     }
 
@@ -62,7 +79,7 @@ public class TrainsPage extends BasePage {
     public void selectLocationFromCustomDropdown(String location) {
         String customDropdownWidgetXpath = "//div[contains(@class, \"autoSuggestPlugin\")]";
         this.typeText(By.xpath(customDropdownWidgetXpath + "//input"), location, "Location dropdown");
-        this.waitForTimeout(1, "Wait for custom dropdown list to load with searched data");
+        this.waitForPageToSettle("Wait for custom dropdown list to load with searched data");
         this.clickElement(By.xpath(customDropdownWidgetXpath + "//li[contains(., \"" + location + "\")]"), "Select value from list");
     }
 
@@ -86,8 +103,9 @@ public class TrainsPage extends BasePage {
 
     public void applyDepartureFilter(String from, String filter) {
         Allure.step("Apply filter: Departure from " + from + " filter option " + filter, () -> {
-            this.clickElement(By.xpath("//div[contains(@class, \"FilterCard_filterCardSection\") and contains(., \"Departure from " + from + "\")]//li[@data-testid=\"filter-option-" + filter + "\"]"), "Departure from " + from + " filter option " + filter);
-            this.waitForTimeout(2, "Wait for data to be filtered");
+            this.runAndWaitForListChange(LISTING_CARD_XPATH, () ->
+                    this.clickElement(By.xpath("//div[contains(@class, \"FilterCard_filterCardSection\") and contains(., \"Departure from " + from + "\")]//li[@data-testid=\"filter-option-" + filter + "\"]"), "Departure from " + from + " filter option " + filter),
+                    "Wait for data to be filtered");
         });
     }
 
@@ -98,24 +116,33 @@ public class TrainsPage extends BasePage {
         String log = "Apply filter for travel class:" + input;
 
         Allure.step(log, () -> {
-            this.clickElement(By.xpath("//div[contains(@class, \"FilterCard\") and contains(., \"Journey Class Filters\")]//li[contains(., \"" + input + "\")]"), log);
-            this.waitForTimeout(2, "Wait for data to be filtered");
+            this.runAndWaitForListChange(LISTING_CARD_XPATH, () ->
+                    this.clickElement(By.xpath("//div[contains(@class, \"FilterCard\") and contains(., \"Journey Class Filters\")]//li[contains(., \"" + input + "\")]"), log),
+                    "Wait for data to be filtered");
         });
     }
 
     public SelectTravellersPage searchTrainForNextFriday(String from, String to, String travelClass, LocalDate inputDate) {
         AtomicReference<WebElement> elementToClick = new AtomicReference<>();
         Allure.step("Search train for next Friday with destination: " + to + " from source: " + from + " With travel class:" + travelClass, () -> {
-            this.fillFromCity(from);
-            this.fillTravelClass(travelClass);
-            this.fillToCity(to);
-            this.fillDate(inputDate);
-            // disabled below line to enable custom date input using config
-            // this.fillNextFridayDate();
-            this.clickSearchButton();
+            // search.mode=deeplink opens the results directly; ui (or a failed deep link) fills the search form
+            boolean deepLinked = ConfigReader.getProperty("search.mode", "deeplink").equalsIgnoreCase("deeplink")
+                    && this.openResultsByDeepLink(from, to, travelClass, inputDate);
+            if (!deepLinked) {
+                this.fillFromCity(from);
+                this.fillTravelClass(travelClass);
+                this.fillToCity(to);
+                this.fillDate(inputDate);
+                // disabled below line to enable custom date input using config
+                // this.fillNextFridayDate();
+                this.clickSearchButton();
+            }
 
             this.applyDepartureFilter(from, "6pm - 12am");
-            this.applyFilterForTravelClass();
+            if (!deepLinked) {
+                // The deep link already carries the class code
+                this.applyFilterForTravelClass();
+            }
 
             Allure.step("Fetch all available train details", () -> {
                 elementToClick.set(this.getAvailableTrainDetails());
@@ -137,32 +164,70 @@ public class TrainsPage extends BasePage {
         return new SelectTravellersPage(this.driver);
     }
 
-    public WebElement getAvailableTrainDetails() {
-        WebElement elementToClick = null;
-        String listingCardXpath = "//div[contains(@class, \"ListingCard_listingTopInfo\")]";
-        this.waitUntilVisible(By.xpath(listingCardXpath), "Each train details");
-        List<WebElement> allTrainsListingCardElements = this.getElements(By.xpath(listingCardXpath));
+    // Opens the search results from a URL built with search.deeplinkPath (relative to trainsUrl) and the
+    // codes in SearchCodes. Returns false, back on the search form, when a code is unknown or no listing shows up
+    public boolean openResultsByDeepLink(String from, String to, String travelClass, LocalDate date) {
+        Optional<String> fromCode = SearchCodes.station(from);
+        Optional<String> toCode = SearchCodes.station(to);
+        Optional<String> classCode = SearchCodes.travelClass(travelClass);
+        if (fromCode.isEmpty() || toCode.isEmpty() || classCode.isEmpty()) {
+            LoggerUtil.log("No deep link codes for " + from + " / " + to + " / " + travelClass + ", using the search form");
+            return false;
+        }
+        String trainsUrl = ConfigReader.getProperty("trainsUrl", "https://www.makemytrip.com/railways/");
+        String url = trainsUrl + ConfigReader.getProperty("search.deeplinkPath",
+                        "listing?date={date}&srcStn={fromCode}&srcCity={from}&destStn={toCode}&destCity={to}&classCode={classCode}")
+                .replace("{date}", date.format(DateTimeFormatter.BASIC_ISO_DATE))
+                .replace("{fromCode}", encode(fromCode.get()))
+                .replace("{from}", encode(from))
+                .replace("{toCode}", encode(toCode.get()))
+                .replace("{to}", encode(to))
+                .replace("{classCode}", encode(classCode.get()));
+
+        Allure.step("Open search results by deep link: " + url, () -> driver.get(url));
+        this.awaitReady("Deep-linked search results");
+        if (this.deepLinkShowsListings()) {
+            return true;
+        }
+        LoggerUtil.log("Deep-linked search results show no listings, using the search form");
+        driver.get(trainsUrl);
+        this.awaitReady("Trains page", By.xpath("//label[@for=\"fromCity\"]"));
+        return false;
+    }
 
-        for (WebElement listingCard : allTrainsListingCardElements) {
-            String trainName = listingCard.findElement(By.xpath(".//p[@data-testid=\"train-name\"]")).getText();
-            String dateTimeInfo = listingCard.findElement(By.xpath(".//div[contains(@class, \"ListingCard_dateTimeInfo\")]")).getText();
+    // Whether the deep link took: a plain short poll (search.deeplinkTimeout) outside WaitBudget and the
+    // circuit breaker, since an unsupported deep link is an expected miss, not a slow or failing site
+    private boolean deepLinkShowsListings() {
+        Duration timeout = ConfigReader.getDuration("search.deeplinkTimeout", Duration.ofSeconds(3));
+        try {
+            new WebDriverWait(driver, timeout, Duration.ofMillis(200))
+                    .until(d -> !d.findElements(By.xpath(LISTING_CARD_XPATH)).isEmpty());
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
 
-            List<WebElement> seatInfoElements = listingCard.findElements(By.xpath(".//div[@data-testid=\"card-wrapper\" and contains(., \"Available\")]"));
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    public WebElement getAvailableTrainDetails() {
+        WebElement elementToClick = null;
+        this.waitUntilVisible(By.xpath(LISTING_CARD_XPATH), "Each train details");
+        List<TrainListing> listings = this.extractRecords(LISTING_CARD_XPATH, LISTING_EXTRACTOR, TrainListing::fromExtractedRecord);
 
-            if (elementToClick == null && !seatInfoElements.isEmpty()) {
+        for (TrainListing listing : listings) {
+            if (elementToClick == null && !listing.seats().isEmpty()) {
                 // set element to click on first train after 6 PM
-                elementToClick = seatInfoElements.get(0);
+                elementToClick = listing.seats().get(0).element();
             }
 
-            Allure.step("Train Name: " + trainName, () -> {
-                formatTrainInfo(dateTimeInfo);
+            Allure.step("Train Name: " + listing.trainName(), () -> {
+                formatTrainInfo(listing);
 
-                for (WebElement seatInfoElement : seatInfoElements) {
-                    String classInfo = seatInfoElement.findElement(By.xpath(".//p[@data-testid=\"class-info\"]")).getText();
-                    String availabilityDetails = seatInfoElement.findElement(By.xpath(".//p[@data-testid=\"availability-text\"]")).getText();
-                    String priceDetails = seatInfoElement.findElement(By.xpath(".//p[contains(@class, \"Cards_totalText\")]")).getText();
-                    String priceOnly = priceDetails.replaceAll("\\D", "");
-                    LoggerUtil.verify(Integer.parseInt(priceOnly) > 0, "For travel class = " + classInfo + " Price shall be non-zero | current ticket price = " + priceDetails + " | " + availabilityDetails);
+                for (TrainListing.SeatOption seat : listing.seats()) {
+                    LoggerUtil.verify(seat.price() > 0, "For travel class = " + seat.classInfo() + " Price shall be non-zero | current ticket price = " + seat.priceDetails() + " | " + seat.availability());
                 }
             });
         }
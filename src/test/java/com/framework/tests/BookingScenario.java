@@ -0,0 +1,37 @@
+package com.framework.tests;
+
+import com.framework.utils.ConfigReader;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// One row of the booking scenario file (see TrainBookingTest); an empty date falls back to the "date" config key
+public record BookingScenario(String id, String from, String to, String travelClass, LocalDate date,
+                              String travellerName, String age, String gender) {
+
+    public static BookingScenario fromRow(Map<String, String> row) {
+        String date = row.getOrDefault("date", "");
+        return new BookingScenario(
+                row.getOrDefault("id", "line " + row.get("_line")),
+                required(row, "from"),
+                required(row, "to"),
+                required(row, "travelClass"),
+                LocalDate.parse(date.isEmpty() ? ConfigReader.getProperty("date") : date),
+                required(row, "travellerName"),
+                required(row, "age"),
+                required(row, "gender"));
+    }
+
+    private static String required(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalStateException("Scenario at line " + row.get("_line") + " has no " + column);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return id + ": " + from + " -> " + to + ", " + travelClass + ", " + date + ", " + travellerName;
+    }
+}
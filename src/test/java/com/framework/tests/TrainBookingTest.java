@@ -7,27 +7,58 @@ import com.framework.pages.SelectTravellersPage;
 import com.framework.pages.TrainsPage;
 import com.framework.utils.ConfigReader;
 import com.framework.utils.LoggerUtil;
+import com.framework.utils.ScenarioSource;
+import com.framework.utils.TestContext;
 import io.qameta.allure.*;
 import org.openqa.selenium.WebDriver;
-import org.testng.annotations.AfterClass;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
-import java.time.LocalDate;
+import java.nio.file.Paths;
+import java.util.Iterator;
 
 @Epic("MakeMyTrip Booking")
 @Feature("Train Booking")
 @Listeners({io.qameta.allure.testng.AllureTestNg.class})
 public class TrainBookingTest {
-    private WebDriver driver;
-    private DashboardPage dashboardPage;
 
-    @BeforeClass
-    public void setUp() {
-        LoggerUtil.step("==== [TrainBookingTest] Test Initialization Started ====");
-        driver = DriverFactory.initDriver();
+    // Scenarios are streamed from scenarios.file (CSV or JSONL) and run in parallel, one browser session per invocation
+    @DataProvider(name = "bookingScenarios", parallel = true)
+    public Iterator<Object[]> bookingScenarios() {
+        return ScenarioSource.open(Paths.get(ConfigReader.getProperty("scenarios.file", "src/test/resources/scenarios/booking.csv")))
+                .toDataProvider(BookingScenario::fromRow);
+    }
+
+    @Test(dataProvider = "bookingScenarios", description = "Book a train ticket for a booking scenario")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Search and try to book the first train after 9 PM for the scenario's route, date, class and traveller")
+    public void testTrainBooking(BookingScenario scenario) {
+        LoggerUtil.step("==== [TrainBookingTest] Scenario " + scenario + " ====");
+        WebDriver driver = DriverFactory.leaseDriver();
+        boolean failed = true;
+        try {
+            DashboardPage dashboardPage = openDashboard(driver);
+            String expectedTitle = "MakeMyTrip - #1 Travel Website 50% OFF on Hotels, Flights & Holiday";
+            String actualTitle = dashboardPage.getPageTitle();
+
+            LoggerUtil.compare(actualTitle, expectedTitle, "Verify Page title");
+            TrainsPage trainsPage = dashboardPage.goToTrainsPage();
+            SelectTravellersPage selectTravellersPage = trainsPage.searchTrainForNextFriday(scenario.from(), scenario.to(), scenario.travelClass(), scenario.date());
+            AddTravellerInformationDialog addTravellerInformationDialog = selectTravellersPage.clickAddTraveller();
+            String personInfo = addTravellerInformationDialog.addTravellerInformation(scenario.travellerName(), scenario.age(), scenario.gender());
 
+            selectTravellersPage.verifyTravellerDetailsExists(personInfo);
+            selectTravellersPage.clickPayAndBookNow();
+            selectTravellersPage.printAllDetailsFromPayAndBookNowWidget();
+            failed = false;
+        } finally {
+            // Soft assertion failures only surface after the method; they evict the session too
+            DriverFactory.releaseDriver(failed || TestContext.current().hasFailures());
+        }
+    }
+
+    private DashboardPage openDashboard(WebDriver driver) {
         String url = ConfigReader.getProperty("baseUrl");
         String log = "[Navigation] Opening application URL: " + url;
         Allure.step(log, () -> {
@@ -35,33 +66,6 @@ public class TrainBookingTest {
             driver.get(url);
             LoggerUtil.step("[Navigation] Successfully navigated to: " + url);
         });
-
-        dashboardPage = new DashboardPage(driver);
-    }
-
-    @Test(description = "Book a train ticket from Vadodara to Surat")
-    @Severity(SeverityLevel.CRITICAL)
-    @Description("Search and try to book the first train after 9 PM on Friday")
-    public void testTrainBooking() {
-        String expectedTitle = "MakeMyTrip - #1 Travel Website 50% OFF on Hotels, Flights & Holiday";
-        String actualTitle = dashboardPage.getPageTitle();
-
-        LoggerUtil.compare(actualTitle, expectedTitle, "Verify Page title");
-        TrainsPage trainsPage = dashboardPage.goToTrainsPage();
-        String inputDate = ConfigReader.getProperty("date");
-        SelectTravellersPage selectTravellersPage = trainsPage.searchTrainForNextFriday("Vadodara", "Surat", "First AC", LocalDate.parse(inputDate));
-        AddTravellerInformationDialog addTravellerInformationDialog = selectTravellersPage.clickAddTraveller();
-        String personInfo = addTravellerInformationDialog.addTravellerInformation("Walter White", "52", "Male");
-
-        selectTravellersPage.verifyTravellerDetailsExists(personInfo);
-        selectTravellersPage.clickPayAndBookNow();
-        selectTravellersPage.printAllDetailsFromPayAndBookNowWidget();
-    }
-
-    @AfterClass
-    public void tearDown() {
-        LoggerUtil.step("==== [TrainBookingTest] Test Execution Completed ====");
-        DriverFactory.quitDriver();
-        LoggerUtil.softAssert.assertAll();
+        return new DashboardPage(driver);
     }
 }
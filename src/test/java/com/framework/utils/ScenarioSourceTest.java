@@ -0,0 +1,141 @@
+package com.framework.utils;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+// CSV/JSONL parsing and the filter, sample and limit options of ScenarioSource, on temporary files
+public class ScenarioSourceTest {
+    private static final String CSV = """
+            # comment lines and blank lines are skipped
+            id,from,to,travelClass
+
+            r1,Vadodara,Surat,First AC
+            r2,Vadodara,Mumbai,Sleeper
+            r3,Surat,Mumbai,First AC
+            r4,Vadodara,Pune,First AC
+            """;
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("scenario-source");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void splitsQuotedCsvFields() {
+        assertEquals(ScenarioSource.parseCsvLine("a, b ,c"), List.of("a", "b", "c"));
+        assertEquals(ScenarioSource.parseCsvLine("\"Walter, Jr.\",52"), List.of("Walter, Jr.", "52"));
+        assertEquals(ScenarioSource.parseCsvLine("\"say \"\"hi\"\"\",x"), List.of("say \"hi\"", "x"));
+        assertEquals(ScenarioSource.parseCsvLine("a,,\"\""), List.of("a", "", ""));
+    }
+
+    @Test
+    public void readsCsvRowsWithTheirLineNumbers() throws IOException {
+        List<Map<String, String>> rows = read(write("scenarios.csv", CSV), Map.of(), 1.0, Long.MAX_VALUE);
+
+        assertEquals(ids(rows), List.of("r1", "r2", "r3", "r4"));
+        assertEquals(rows.get(0), Map.of("id", "r1", "from", "Vadodara", "to", "Surat", "travelClass", "First AC", "_line", "4"));
+    }
+
+    @Test
+    public void readsJsonLines() throws IOException {
+        Path file = write("scenarios.jsonl", """
+                {"id": "j1", "age": 52}
+                # skipped
+                {"id": "j2", "age": null}
+                """);
+
+        List<Map<String, String>> rows = read(file, Map.of(), 1.0, Long.MAX_VALUE);
+
+        assertEquals(rows, List.of(Map.of("id", "j1", "age", "52", "_line", "1"), Map.of("id", "j2", "age", "", "_line", "3")));
+    }
+
+    @Test
+    public void keepsOnlyRowsMatchingEveryFilterColumn() throws IOException {
+        List<Map<String, String>> rows = read(write("scenarios.csv", CSV),
+                Map.of("from", "Vadodara", "travelClass", "First AC"), 1.0, Long.MAX_VALUE);
+
+        assertEquals(ids(rows), List.of("r1", "r4"));
+    }
+
+    @Test
+    public void stopsAtTheLimitAfterFiltering() throws IOException {
+        List<Map<String, String>> rows = read(write("scenarios.csv", CSV), Map.of("travelClass", "First AC"), 1.0, 2);
+
+        assertEquals(ids(rows), List.of("r1", "r3"));
+    }
+
+    @Test
+    public void samplesTheSameRowsForTheSameSeed() throws IOException {
+        StringBuilder csv = new StringBuilder("id\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append("r").append(i).append('\n');
+        }
+        Path file = write("scenarios.csv", csv.toString());
+
+        List<String> first = ids(read(file, Map.of(), 0.25, Long.MAX_VALUE));
+        List<String> second = ids(read(file, Map.of(), 0.25, Long.MAX_VALUE));
+
+        assertEquals(first, second);
+        assertTrue(first.size() > 20 && first.size() < 80, "sampled " + first.size() + " of 200 rows");
+        assertTrue(read(file, Map.of(), 0.0, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void rejectsRowsWithTheWrongNumberOfColumns() throws IOException {
+        Path file = write("scenarios.csv", "id,from\nr1,Vadodara,Surat\n");
+
+        try (ScenarioSource source = new ScenarioSource(file, Map.of(), 1.0, 42, Long.MAX_VALUE)) {
+            assertThrows(IllegalStateException.class, source::hasNext);
+        }
+    }
+
+    @Test
+    public void closesTheFileOnceExhausted() throws IOException {
+        try (ScenarioSource source = new ScenarioSource(write("scenarios.csv", "id\n"), Map.of(), 1.0, 42, Long.MAX_VALUE)) {
+            assertFalse(source.hasNext());
+            assertFalse(source.hasNext());
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static List<Map<String, String>> read(Path file, Map<String, String> filter, double sample, long limit) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (ScenarioSource source = new ScenarioSource(file, filter, sample, 42, limit)) {
+            source.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static List<String> ids(List<Map<String, String>> rows) {
+        return rows.stream().map(row -> row.get("id")).toList();
+    }
+}
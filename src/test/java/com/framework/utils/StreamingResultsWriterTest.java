@@ -0,0 +1,123 @@
+package com.framework.utils;
+
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+// Step capping of StreamingResultsWriter; pure model manipulation, no browser or results directory needed
+public class StreamingResultsWriterTest {
+
+    @Test
+    public void keepsTestsAtOrBelowTheCapUnchanged() {
+        TestResult result = testWith(flatSteps(10));
+
+        StreamingResultsWriter.summarizeSteps(result, 10);
+
+        assertEquals(names(result.getSteps()), names(flatSteps(10)));
+    }
+
+    @Test
+    public void replacesTheMiddleOfALongTestWithOneSummary() {
+        TestResult result = testWith(flatSteps(20));
+
+        // maxSteps 10: the first 8 and the last 2 steps are kept
+        StreamingResultsWriter.summarizeSteps(result, 10);
+
+        assertEquals(names(result.getSteps()), List.of("s0", "s1", "s2", "s3", "s4", "s5", "s6", "s7",
+                "10 passed step(s) omitted (allure.maxSteps=10)", "s18", "s19"));
+        StepResult summary = result.getSteps().get(8);
+        assertEquals(summary.getStatus(), Status.PASSED);
+        assertEquals(summary.getStart(), Long.valueOf(8));
+        assertEquals(summary.getStop(), Long.valueOf(17));
+    }
+
+    @Test
+    public void keepsFailedStepsAndStepsWithAttachments() {
+        List<StepResult> steps = flatSteps(20);
+        steps.get(10).setStatus(Status.FAILED);
+        steps.get(14).getAttachments().add(new Attachment().setName("screenshot"));
+        TestResult result = testWith(steps);
+
+        StreamingResultsWriter.summarizeSteps(result, 10);
+
+        assertEquals(names(result.getSteps()), List.of("s0", "s1", "s2", "s3", "s4", "s5", "s6", "s7",
+                "2 passed step(s) omitted (allure.maxSteps=10)", "s10",
+                "3 passed step(s) omitted (allure.maxSteps=10)", "s14",
+                "3 passed step(s) omitted (allure.maxSteps=10)", "s18", "s19"));
+    }
+
+    @Test
+    public void countsNestedStepsDepthFirst() {
+        // Depth-first indices: a=0 a1..a4=1..4, b=5 b1..b4=6..9, c=10 c1..c4=11..14
+        TestResult result = testWith(List.of(parent("a", 4), parent("b", 4), parent("c", 4)));
+
+        // maxSteps 5: indices 0-3 are the head, index 14 is the tail
+        StreamingResultsWriter.summarizeSteps(result, 5);
+
+        List<StepResult> top = result.getSteps();
+        assertEquals(names(top), List.of("a", "5 passed step(s) omitted (allure.maxSteps=5)", "c"));
+        assertEquals(names(top.get(0).getSteps()), List.of("a1", "a2", "a3", "1 passed step(s) omitted (allure.maxSteps=5)"));
+        // c reaches into the tail, so it is kept and only its children before the tail are omitted
+        assertEquals(names(top.get(2).getSteps()), List.of("3 passed step(s) omitted (allure.maxSteps=5)", "c4"));
+    }
+
+    @Test
+    public void keepsParentsOfFailedSteps() {
+        StepResult b = parent("b", 4);
+        b.getSteps().get(2).setStatus(Status.BROKEN);
+        TestResult result = testWith(List.of(parent("a", 4), b, parent("c", 4)));
+
+        StreamingResultsWriter.summarizeSteps(result, 5);
+
+        List<StepResult> top = result.getSteps();
+        assertEquals(names(top), List.of("a", "b", "c"));
+        assertEquals(names(top.get(1).getSteps()), List.of("2 passed step(s) omitted (allure.maxSteps=5)", "b3",
+                "1 passed step(s) omitted (allure.maxSteps=5)"));
+    }
+
+    @Test
+    public void disabledCapKeepsEverything() {
+        TestResult result = testWith(flatSteps(50));
+
+        StreamingResultsWriter.summarizeSteps(result, 0);
+
+        assertEquals(result.getSteps().size(), 50);
+        assertTrue(result.getSteps().stream().noneMatch(step -> step.getName().contains("omitted")));
+    }
+
+    private static TestResult testWith(List<StepResult> steps) {
+        return new TestResult().setSteps(new ArrayList<>(steps));
+    }
+
+    private static List<StepResult> flatSteps(int count) {
+        List<StepResult> steps = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            steps.add(step("s" + i, i));
+        }
+        return steps;
+    }
+
+    private static StepResult parent(String name, int children) {
+        StepResult parent = step(name, 0);
+        for (int i = 1; i <= children; i++) {
+            parent.getSteps().add(step(name + i, i));
+        }
+        return parent;
+    }
+
+    private static StepResult step(String name, long time) {
+        return new StepResult().setName(name).setStatus(Status.PASSED).setStart(time).setStop(time);
+    }
+
+    private static List<String> names(List<StepResult> steps) {
+        return steps.stream().map(StepResult::getName).toList();
+    }
+}
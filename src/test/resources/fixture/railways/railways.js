@@ -0,0 +1,161 @@
+// Behaviour of the trains fixture page. Station suggestions and listings come from the fixture
+// server's /api endpoints with fetch(), so the framework's settle/list-change waits see real traffic.
+(function () {
+    var MONTHS = ['January', 'February', 'March', 'April', 'May', 'June', 'July',
+        'August', 'September', 'October', 'November', 'December'];
+    var state = {target: null, month: null, departure: '', travelClass: ''};
+
+    function byId(id) {
+        return document.getElementById(id);
+    }
+
+    function show(id, visible) {
+        byId(id).classList.toggle('hidden', !visible);
+    }
+
+    function escapeHtml(text) {
+        return String(text).replace(/[&<>"]/g, function (c) {
+            return {'&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;'}[c];
+        });
+    }
+
+    // Autosuggest dropdown shared by the From and To fields
+    ['fromCity', 'toCity'].forEach(function (field) {
+        document.querySelector('label[for="' + field + '"]').addEventListener('click', function () {
+            state.target = field;
+            show('autoSuggest', true);
+            byId('suggestions').innerHTML = '';
+        });
+    });
+    document.querySelector('#autoSuggest input').addEventListener('input', function (event) {
+        fetch('/api/stations?q=' + encodeURIComponent(event.target.value))
+            .then(function (response) { return response.json(); })
+            .then(function (stations) {
+                byId('suggestions').innerHTML = stations.map(function (station) {
+                    return '<li>' + escapeHtml(station) + '</li>';
+                }).join('');
+            });
+    });
+    byId('suggestions').addEventListener('click', function (event) {
+        if (event.target.tagName === 'LI') {
+            byId(state.target).value = event.target.textContent;
+            show('autoSuggest', false);
+        }
+    });
+
+    // Travel class popup
+    document.querySelector('label[for="travelClass"]').addEventListener('click', function () {
+        show('travelClassPopup', true);
+    });
+    byId('travelClassPopup').addEventListener('click', function (event) {
+        if (event.target.tagName === 'LI') {
+            byId('travelFor').value = event.target.dataset.code + ', ' + event.target.textContent;
+            state.travelClass = event.target.dataset.code;
+            show('travelClassPopup', false);
+        }
+    });
+
+    // DayPicker calendar, starting at the current month with past days disabled
+    function renderMonth() {
+        var today = new Date();
+        today.setHours(0, 0, 0, 0);
+        var month = state.month;
+        byId('caption').textContent = MONTHS[month.getMonth()] + ' ' + month.getFullYear();
+        var html = '';
+        for (var i = 0; i < month.getDay(); i++) {
+            html += '<div class="DayPicker-Day DayPicker-Day--outside" aria-disabled="true"></div>';
+        }
+        var days = new Date(month.getFullYear(), month.getMonth() + 1, 0).getDate();
+        for (var day = 1; day <= days; day++) {
+            var date = new Date(month.getFullYear(), month.getMonth(), day);
+            html += '<div class="DayPicker-Day" aria-label="' + date.toDateString() + '" aria-disabled="'
+                + (date < today) + '">' + day + '</div>';
+        }
+        byId('days').innerHTML = html;
+    }
+
+    document.querySelector('label[for="travelDate"]').addEventListener('click', function () {
+        var now = new Date();
+        state.month = new Date(now.getFullYear(), now.getMonth(), 1);
+        renderMonth();
+        show('dayPicker', true);
+    });
+    byId('nextMonth').addEventListener('click', function () {
+        state.month = new Date(state.month.getFullYear(), state.month.getMonth() + 1, 1);
+        renderMonth();
+    });
+    byId('previousMonth').addEventListener('click', function () {
+        state.month = new Date(state.month.getFullYear(), state.month.getMonth() - 1, 1);
+        renderMonth();
+    });
+    byId('days').addEventListener('click', function (event) {
+        if (event.target.getAttribute('aria-disabled') === 'false') {
+            byId('travelDate').value = event.target.getAttribute('aria-label');
+            show('dayPicker', false);
+        }
+    });
+
+    // Search results: filters re-query the listings endpoint
+    function loadListings() {
+        var query = 'from=' + encodeURIComponent(byId('fromCity').value)
+            + '&to=' + encodeURIComponent(byId('toCity').value)
+            + '&departure=' + encodeURIComponent(state.departure)
+            + '&travelClass=' + encodeURIComponent(state.travelClass);
+        return fetch('/api/listings?' + query)
+            .then(function (response) { return response.json(); })
+            .then(renderListings);
+    }
+
+    function renderListings(listings) {
+        byId('departureTitle').textContent = 'Departure from ' + byId('fromCity').value;
+        byId('listings').innerHTML = listings.map(function (listing) {
+            return '<div class="ListingCard_listingTopInfo__fx">'
+                + '<p data-testid="train-name">' + escapeHtml(listing.trainName) + '</p>'
+                + '<div class="ListingCard_dateTimeInfo__fx">'
+                + listing.dateTimeInfo.map(function (line) { return '<div>' + escapeHtml(line) + '</div>'; }).join('')
+                + '</div>'
+                + listing.seats.map(function (seat) {
+                    return '<div data-testid="card-wrapper">'
+                        + '<p data-testid="class-info">' + escapeHtml(seat.classInfo) + '</p>'
+                        + '<p data-testid="availability-text">' + escapeHtml(seat.availability) + '</p>'
+                        + '<p class="Cards_totalText__fx">' + escapeHtml(seat.price) + '</p>'
+                        + '</div>';
+                }).join('')
+                + '</div>';
+        }).join('');
+        show('results', true);
+    }
+
+    // Deep links (/railways/listing?srcCity=..&srcStn=..&destCity=..&destStn=..&classCode=..&date=yyyyMMdd)
+    // open the search results without the form
+    var params = new URLSearchParams(location.search);
+    if (params.has('srcStn')) {
+        byId('fromCity').value = params.get('srcCity') + ' (' + params.get('srcStn') + ')';
+        byId('toCity').value = params.get('destCity') + ' (' + params.get('destStn') + ')';
+        byId('travelDate').value = params.get('date');
+        state.travelClass = params.get('classCode') || '';
+        loadListings();
+    }
+
+    byId('search').addEventListener('click', function (event) {
+        event.preventDefault();
+        loadListings();
+    });
+    byId('departureFilter').addEventListener('click', function (event) {
+        if (event.target.tagName === 'LI') {
+            state.departure = event.target.textContent;
+            loadListings();
+        }
+    });
+    byId('classFilter').addEventListener('click', function (event) {
+        if (event.target.tagName === 'LI') {
+            state.travelClass = event.target.dataset.code;
+            loadListings();
+        }
+    });
+    byId('listings').addEventListener('click', function (event) {
+        if (event.target.closest('[data-testid="card-wrapper"]')) {
+            location.href = '/railways/travellers.html';
+        }
+    });
+})();